@@ -0,0 +1,67 @@
+package com.customer.service.section17.benchmark;
+
+import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.request.ClientAddress;
+import com.customer.service.section17.request.ClientRequest;
+import com.customer.service.section17.response.ClientResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Realistic fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 15, 10, 30, 15, 123_456_000);
+
+    private BenchmarkData() {
+    }
+
+    static ClientAddress address(long id) {
+        return ClientAddress.builder()
+                .address(id + " MG Road, Indiranagar")
+                .city("Bengaluru")
+                .state("Karnataka")
+                .country("India")
+                .build();
+    }
+
+    static ClientRequest request(long id) {
+        return ClientRequest.builder()
+                .clientName("Client " + id)
+                .clientAge(20 + (int) (id % 50))
+                .clientMobileNumber(String.format("9%09d", id))
+                .clientEmailAddress("client" + id + "@example.com")
+                .clientAddress(address(id))
+                .build();
+    }
+
+    static ClientModel model(long id) {
+        return ClientModel.builder()
+                .clientId(id)
+                .clientName("Client " + id)
+                .clientPassword("a1B2c3D4e5F6")
+                .clientAge(20 + (int) (id % 50))
+                .clientMobileNumber(String.format("9%09d", id))
+                .clientEmailAddress("client" + id + "@example.com")
+                .clientAddress(address(id))
+                .status(CustomerStatus.ACTIVE)
+                .clientOtp("123456")
+                .verified(id % 2 == 0)
+                .createDate(CREATED)
+                .updatedDate(CREATED.plusDays(id % 30))
+                .version(id % 5)
+                .build();
+    }
+
+    static List<ClientResponse> responses(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(BenchmarkData::model)
+                .map(ClientMapper::modelToResponseMapper)
+                .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.customer.service.section17.benchmark;
+
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.customer.service.section17.constant.CustomerConstant.SUCCESSFULLY_RETRIEVED;
+import static com.customer.service.section17.constant.CustomerConstant.SUCCESS_CODE;
+
+/**
+ * Encode and decode cost of a client list response in each negotiable format. The
+ * encoded size of every combination is printed once per fork as {@code payload-bytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientEncodingBenchmark {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private String format;
+
+    @Param({"1", "1000", "100000"})
+    private int clients;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private APIClientResponse response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "SMILE" -> new SmileFactory();
+            case "CBOR" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        reader = objectMapper.readerFor(ClientListEnvelope.class);
+        response = APIClientResponse.builder()
+                .errorCode(SUCCESS_CODE)
+                .errorMessage(SUCCESSFULLY_RETRIEVED)
+                .data(BenchmarkData.responses(clients))
+                .build();
+        encoded = objectMapper.writeValueAsBytes(response);
+        System.out.printf("%npayload-bytes format=%s clients=%d bytes=%d%n", format, clients, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ClientListEnvelope decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    /**
+     * Typed view of {@link APIClientResponse} so decoding builds {@link ClientResponse}s
+     * the way a Java caller would, rather than generic maps.
+     */
+    public static class ClientListEnvelope {
+        public int errorCode;
+        public String errorMessage;
+        public List<ClientResponse> data;
+    }
+}
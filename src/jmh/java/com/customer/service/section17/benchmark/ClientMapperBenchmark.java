@@ -0,0 +1,40 @@
+package com.customer.service.section17.benchmark;
+
+import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.request.ClientRequest;
+import com.customer.service.section17.response.ClientResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientMapperBenchmark {
+
+    private ClientModel model;
+    private ClientRequest request;
+
+    @Setup
+    public void setUp() {
+        model = BenchmarkData.model(1L);
+        request = BenchmarkData.request(1L);
+    }
+
+    @Benchmark
+    public ClientResponse modelToResponseMapper() {
+        return ClientMapper.modelToResponseMapper(model);
+    }
+
+    /**
+     * Includes password and OTP generation, which is most of the cost.
+     */
+    @Benchmark
+    public ClientModel requestToModel() {
+        return ClientMapper.requestToModel(request);
+    }
+}
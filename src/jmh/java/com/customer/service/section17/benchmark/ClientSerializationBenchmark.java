@@ -0,0 +1,54 @@
+package com.customer.service.section17.benchmark;
+
+import com.customer.service.section17.response.APIClientResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.customer.service.section17.constant.CustomerConstant.SUCCESSFULLY_RETRIEVED;
+import static com.customer.service.section17.constant.CustomerConstant.SUCCESS_CODE;
+
+/**
+ * JSON serialization of {@link APIClientResponse} the way Spring MVC writes it,
+ * using an {@link ObjectMapper} built with the same defaults Spring Boot applies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private APIClientResponse singleClient;
+    private APIClientResponse clientList;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        singleClient = APIClientResponse.builder()
+                .errorCode(SUCCESS_CODE)
+                .errorMessage(SUCCESSFULLY_RETRIEVED)
+                .data(BenchmarkData.responses(1).get(0))
+                .build();
+        clientList = APIClientResponse.builder()
+                .errorCode(SUCCESS_CODE)
+                .errorMessage(SUCCESSFULLY_RETRIEVED)
+                .data(BenchmarkData.responses(10_000))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeSingleClient() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(singleClient);
+    }
+
+    @Benchmark
+    public byte[] serializeTenThousandClients() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(clientList);
+    }
+}
@@ -0,0 +1,39 @@
+package com.customer.service.section17.benchmark;
+
+import com.customer.service.section17.util.CustomerUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerUtilBenchmark {
+
+    @Benchmark
+    public String generatePassword() {
+        return CustomerUtil.generatePassword();
+    }
+
+    @Benchmark
+    public String generateOtp() {
+        return CustomerUtil.generateOtp();
+    }
+
+    @Benchmark
+    public String autoGenerateHashPassword() {
+        return CustomerUtil.autoGenerateHashPassword();
+    }
+
+    /**
+     * Same generators under contention, to expose shared-state bottlenecks.
+     */
+    @Benchmark
+    @Threads(8)
+    public String generatePasswordContended() {
+        return CustomerUtil.generatePassword();
+    }
+}
@@ -2,8 +2,10 @@ package com.customer.service.section17;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class CustomerServiceSection17Application {
 
 	public static void main(String[] args) {
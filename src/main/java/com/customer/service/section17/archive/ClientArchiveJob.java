@@ -0,0 +1,41 @@
+package com.customer.service.section17.archive;
+
+import com.customer.service.section17.config.ArchiveProperties;
+import com.customer.service.section17.service.ClientArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves long-inactive clients to the archive in small transactions with a pause between
+ * them, so row locks are short-lived and replicas keep up. A failed batch is simply
+ * picked up again by the next run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "client.archive.job-enabled", havingValue = "true")
+public class ClientArchiveJob {
+
+    private final ClientArchiveService clientArchiveService;
+    private final ArchiveProperties properties;
+
+    @Scheduled(cron = "${client.archive.cron:0 30 3 * * *}")
+    public void archive() throws InterruptedException {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.inactiveAge());
+        long archived = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            int moved = clientArchiveService.archiveBatch(cutoff, properties.batchSize());
+            archived += moved;
+            if (moved < properties.batchSize()) {
+                break;
+            }
+            Thread.sleep(properties.batchPause());
+        }
+        log.info("Archived {} clients inactive since before {}", archived, cutoff);
+    }
+}
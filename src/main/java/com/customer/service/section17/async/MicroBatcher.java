@@ -0,0 +1,104 @@
+package com.customer.service.section17.async;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent single-key lookups into one bulk load. A dispatcher thread takes
+ * the first waiting key, collects whatever else arrives within {@code window} (up to
+ * {@code maxBatchSize}) and hands the batch to {@code executor}; every caller's future
+ * completes with its own value, or {@code null} when the loader did not return one.
+ */
+public class MicroBatcher<K, V> implements AutoCloseable {
+
+    private final BlockingQueue<Pending<K, V>> queue = new LinkedBlockingQueue<>();
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final Executor executor;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public MicroBatcher(String name, Function<Set<K>, Map<K, V>> loader, Executor executor,
+                        Duration window, int maxBatchSize) {
+        this.loader = loader;
+        this.executor = executor;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.dispatcher = Thread.ofPlatform().name(name).daemon().start(this::dispatch);
+    }
+
+    public CompletableFuture<V> submit(K key) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new RejectedExecutionException("Batcher is closed"));
+            return future;
+        }
+        queue.add(new Pending<>(key, future));
+        return future;
+    }
+
+    /**
+     * Stops accepting keys and waits for the dispatcher to hand off those already queued.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void dispatch() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending<K, V> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Pending<K, V>> batch = new ArrayList<>();
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending<K, V> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                try {
+                    executor.execute(() -> load(batch));
+                } catch (RejectedExecutionException e) {
+                    batch.forEach(pending -> pending.future().completeExceptionally(e));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void load(List<Pending<K, V>> batch) {
+        Set<K> keys = new LinkedHashSet<>();
+        batch.forEach(pending -> keys.add(pending.key()));
+        try {
+            Map<K, V> values = loader.apply(keys);
+            batch.forEach(pending -> pending.future().complete(values.get(pending.key())));
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    private record Pending<K, V>(K key, CompletableFuture<V> future) {
+    }
+}
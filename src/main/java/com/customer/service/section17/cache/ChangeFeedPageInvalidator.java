@@ -0,0 +1,34 @@
+package com.customer.service.section17.cache;
+
+import com.customer.service.section17.repository.ClientChangeEventRepository;
+import com.customer.service.section17.routing.PrimaryRouting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops this instance's cached pages when any instance changes a client. The relay
+ * numbers committed outbox events, so a new highest {@code publishedSequence} means
+ * some client changed since the last poll. Pages written on another instance are thus
+ * stale for at most the relay interval plus the poll interval; where no instance runs
+ * the relay, only the page TTL bounds it.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "client.page-cache.follow-change-feed", havingValue = "true", matchIfMissing = true)
+public class ChangeFeedPageInvalidator {
+
+    private final ClientChangeEventRepository changeEventRepository;
+    private final ClientPageCache clientPageCache;
+    private long lastPublishedSequence = -1;
+
+    @Scheduled(fixedDelayString = "${client.page-cache.feed-poll-interval-ms:1000}")
+    public void poll() {
+        long latest = PrimaryRouting.onPrimary(changeEventRepository::findMaxPublishedSequence);
+        if (lastPublishedSequence >= 0 && latest != lastPublishedSequence) {
+            clientPageCache.invalidateAll();
+        }
+        lastPublishedSequence = latest;
+    }
+}
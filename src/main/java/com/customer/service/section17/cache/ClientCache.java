@@ -0,0 +1,92 @@
+package com.customer.service.section17.cache;
+
+import com.customer.service.section17.config.ClientCacheProperties;
+import com.customer.service.section17.response.ClientCacheStatsResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.routing.PrimaryRouting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of {@link ClientResponse}s keyed by client id.
+ *
+ * <p>Invalidation happens immediately and, when called inside a transaction, once
+ * more when it completes, so a concurrent reader cannot leave the pre-commit row
+ * behind in the cache.
+ */
+@Component
+public class ClientCache implements MeterBinder {
+
+    private final Cache<Long, ClientResponse> cache;
+
+    public ClientCache(ClientCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached client or loads it with the given function. Concurrent misses
+     * for the same id share a single load; absent clients are not cached. Loads read the
+     * primary, as a lagging replica could put a pre-write row back after invalidation.
+     */
+    public Optional<ClientResponse> get(long clientId, Function<Long, Optional<ClientResponse>> loader) {
+        return Optional.ofNullable(cache.get(clientId,
+                id -> PrimaryRouting.onPrimary(() -> loader.apply(id).orElse(null))));
+    }
+
+    public Optional<ClientResponse> getIfPresent(long clientId) {
+        return Optional.ofNullable(cache.getIfPresent(clientId));
+    }
+
+    public void invalidate(long clientId) {
+        invalidateAll(List.of(clientId));
+    }
+
+    public void invalidateAll(Collection<Long> clientIds) {
+        if (clientIds.isEmpty()) {
+            return;
+        }
+        List<Long> keys = List.copyOf(clientIds);
+        cache.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "client");
+    }
+
+    public ClientCacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return ClientCacheStatsResponse.builder()
+                .estimatedSize(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadCount(stats.loadCount())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
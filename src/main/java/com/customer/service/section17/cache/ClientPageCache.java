@@ -0,0 +1,127 @@
+package com.customer.service.section17.cache;
+
+import com.customer.service.section17.config.PageCacheProperties;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.routing.PrimaryRouting;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of list and search responses held as serialized JSON and, above the
+ * compression threshold, as gzip, so a repeated read is a single write of bytes.
+ *
+ * <p>Any client mutation invalidates every page, on other instances through
+ * {@link ChangeFeedPageInvalidator}. Keys carry a generation that the
+ * invalidation advances, so a page loaded before a change committed can never be
+ * found afterwards. Error responses are handed back but expire immediately.
+ */
+@Component
+public class ClientPageCache implements MeterBinder {
+
+    private final Cache<PageKey, CachedPage> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final long compressionThreshold;
+
+    public ClientPageCache(PageCacheProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = properties.compressionThreshold().toBytes();
+        long ttlNanos = properties.expireAfterWrite().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .<PageKey, CachedPage>weigher((key, page) -> page.weight())
+                .expireAfter(Expiry.<PageKey, CachedPage>creating(
+                        (key, page) -> Duration.ofNanos(page.status().is2xxSuccessful() ? ttlNanos : 0)))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the serialized page for the given endpoint and parameters, loading it with
+     * the supplier on a miss. Concurrent misses for the same page share a single load,
+     * which reads the primary so a lagging replica cannot repopulate a pre-write page.
+     */
+    public CachedPage get(String endpoint, Object params, Supplier<ResponseEntity<APIClientResponse>> loader) {
+        return cache.get(new PageKey(generation.get(), endpoint, params),
+                key -> serialize(PrimaryRouting.onPrimary(loader)));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "clientPages");
+    }
+
+    private CachedPage serialize(ResponseEntity<APIClientResponse> response) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize client page", e);
+        }
+        byte[] gzip = json.length >= compressionThreshold ? gzip(json) : null;
+        return new CachedPage(response.getStatusCode(), json, gzip, "\"0" + DigestUtils.md5DigestAsHex(json) + "\"");
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record PageKey(long generation, String endpoint, Object params) {
+    }
+
+    /**
+     * A serialized page. {@code gzip} is {@code null} when the body was too small to be
+     * worth compressing; the gzip representation's ETag is suffixed so caches keep the
+     * two encodings apart.
+     */
+    public record CachedPage(HttpStatusCode status, byte[] json, byte[] gzip, String eTag) {
+
+        public String gzipETag() {
+            return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+        }
+
+        int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Archival of long-inactive clients into {@code client_details_archive}.
+ *
+ * @param jobEnabled       whether the scheduled archival job runs on this instance
+ * @param inactiveAge      how long a client must have been INACTIVE before it is archived
+ * @param batchSize        clients moved per transaction
+ * @param batchPause       pause between batches, so archival never saturates the primary
+ * @param maxBatchesPerRun upper bound on batches in one run; the rest waits for the next run
+ */
+@ConfigurationProperties(prefix = "client.archive")
+public record ArchiveProperties(@DefaultValue("false") boolean jobEnabled,
+                                @DefaultValue("90d") Duration inactiveAge,
+                                @DefaultValue("500") int batchSize,
+                                @DefaultValue("200ms") Duration batchPause,
+                                @DefaultValue("1000") int maxBatchesPerRun) {
+}
@@ -0,0 +1,21 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Executor and batching settings for the asynchronous read API.
+ *
+ * @param threads       repository worker threads; keep below the connection pool size
+ * @param queueCapacity tasks that may wait for a worker before new ones are rejected with 503
+ * @param batchWindow   how long a single-id lookup waits for others to share its query
+ * @param maxBatchSize  most ids resolved by one coalesced query
+ */
+@ConfigurationProperties(prefix = "client.async")
+public record AsyncProperties(@DefaultValue("16") int threads,
+                              @DefaultValue("1000") int queueCapacity,
+                              @DefaultValue("2ms") Duration batchWindow,
+                              @DefaultValue("500") int maxBatchSize) {
+}
@@ -0,0 +1,17 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the in-process {@code ClientResponse} cache.
+ *
+ * @param maximumSize      maximum number of cached clients before W-TinyLFU eviction kicks in
+ * @param expireAfterWrite how long an entry may live before it is reloaded from the database
+ */
+@ConfigurationProperties(prefix = "client.cache")
+public record ClientCacheProperties(@DefaultValue("10000") long maximumSize,
+                                    @DefaultValue("10m") Duration expireAfterWrite) {
+}
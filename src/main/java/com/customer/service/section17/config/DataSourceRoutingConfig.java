@@ -0,0 +1,104 @@
+package com.customer.service.section17.config;
+
+import com.customer.service.section17.routing.ReadYourWritesFilter;
+import com.customer.service.section17.routing.ReplicaPoolDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured {@link DataSource} with a {@link LazyConnectionDataSourceProxy}
+ * over the primary whose read-only data source is a {@link ReplicaPoolDataSource}. The
+ * proxy defers checkout until the first statement, by which point the transaction has
+ * marked the connection read-only, so {@code @Transactional(readOnly = true)} work goes
+ * to a replica and everything else to the primary.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "client.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final long REPLICA_CONNECTION_TIMEOUT_MS = 2000;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReplicaPoolDataSource replicaPoolDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                DataSourceProperties dataSourceProperties,
+                                                DataSourceRoutingProperties properties) {
+        List<DataSource> replicas = properties.replicas().stream()
+                .map(replica -> (DataSource) replicaPool(replica, dataSourceProperties, properties))
+                .toList();
+        ReplicaPoolDataSource pool = new ReplicaPoolDataSource(primary, replicas);
+        pool.startHealthChecks(properties.healthCheckInterval());
+        return pool;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, ReplicaPoolDataSource replicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicas);
+        return dataSource;
+    }
+
+    /**
+     * Hibernate otherwise keeps a session's first connection until the session closes,
+     * which under open-in-view would let a replica connection outlive its read-only transaction.
+     */
+    @Bean
+    HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(DataSourceRoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.stickyWindow(), Clock.systemUTC()));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    MeterBinder replicaHealthMetrics(ReplicaPoolDataSource replicas) {
+        return registry -> Gauge.builder("client.datasource.replicas.healthy", replicas,
+                        ReplicaPoolDataSource::healthyReplicas)
+                .description("Replicas currently receiving read-only transactions")
+                .register(registry);
+    }
+
+    private static HikariDataSource replicaPool(DataSourceRoutingProperties.Replica replica,
+                                                DataSourceProperties dataSourceProperties,
+                                                DataSourceRoutingProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(properties.replicaPoolSize());
+        // fail over to the next replica or the primary quickly instead of waiting the full pool timeout
+        dataSource.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT_MS);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
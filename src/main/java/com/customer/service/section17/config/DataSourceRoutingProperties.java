@@ -0,0 +1,28 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read/write splitting between {@code spring.datasource} (the primary) and read replicas.
+ *
+ * @param enabled             whether read-only transactions are routed to replicas
+ * @param replicas            replica connection settings
+ * @param replicaPoolSize     connections per replica pool
+ * @param healthCheckInterval how often replicas are probed; a failed replica is skipped until it recovers
+ * @param stickyWindow        how long a caller's reads stay on the primary after it wrote; should exceed
+ *                            the worst replica lag plus the duration of a write request
+ */
+@ConfigurationProperties(prefix = "client.routing")
+public record DataSourceRoutingProperties(@DefaultValue("false") boolean enabled,
+                                          @DefaultValue List<Replica> replicas,
+                                          @DefaultValue("10") int replicaPoolSize,
+                                          @DefaultValue("5s") Duration healthCheckInterval,
+                                          @DefaultValue("5s") Duration stickyWindow) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
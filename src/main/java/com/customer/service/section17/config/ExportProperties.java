@@ -0,0 +1,28 @@
+package com.customer.service.section17.config;
+
+import com.customer.service.section17.enums.ExportFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Bulk export settings.
+ *
+ * @param jobEnabled   whether the scheduled export job runs on this instance
+ * @param directory    where the job writes its files and its {@code .watermark}
+ * @param format       file format written by the job
+ * @param fetchSize    rows the JDBC driver fetches per round trip
+ * @param bufferSize   bytes buffered in front of the gzip stream
+ * @param watermarkLag how far behind now an export stops; must exceed the longest write
+ *                     transaction plus the write-behind flush interval, or rows committed
+ *                     late are skipped by incremental exports
+ */
+@ConfigurationProperties(prefix = "client.export")
+public record ExportProperties(@DefaultValue("false") boolean jobEnabled,
+                               @DefaultValue("exports") String directory,
+                               @DefaultValue("NDJSON") ExportFormat format,
+                               @DefaultValue("1000") int fetchSize,
+                               @DefaultValue("65536") int bufferSize,
+                               @DefaultValue("1m") Duration watermarkLag) {
+}
@@ -0,0 +1,25 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code Idempotency-Key} handling.
+ *
+ * @param ttl          how long a recorded response is replayed
+ * @param maxEntries   responses kept in memory
+ * @param waitTimeout  how long a duplicate waits for the in-flight original before getting 409
+ * @param claimTimeout age after which a durable claim without a response is treated as left
+ *                     behind by a crashed instance and taken over; must exceed the slowest request
+ * @param dbEnabled    also record responses in {@code idempotency_records} so retries that land
+ *                     on another instance, or after a restart, are replayed too
+ */
+@ConfigurationProperties(prefix = "client.idempotency")
+public record IdempotencyProperties(@DefaultValue("24h") Duration ttl,
+                                    @DefaultValue("100000") long maxEntries,
+                                    @DefaultValue("30s") Duration waitTimeout,
+                                    @DefaultValue("5m") Duration claimTimeout,
+                                    @DefaultValue("false") boolean dbEnabled) {
+}
@@ -0,0 +1,23 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Bulk import settings.
+ *
+ * @param file               CSV or NDJSON file imported once at startup; unset disables the runner
+ * @param workers            parse and validation threads, {@code 0} for one per CPU
+ * @param queueCapacity      rows buffered between pipeline stages before the producer blocks
+ * @param chunkSize          rows written per transaction
+ * @param maxReportedRejects rejected rows listed in the report; the count is always exact
+ * @param progressInterval   imported rows between progress log lines
+ */
+@ConfigurationProperties(prefix = "client.import")
+public record ImportProperties(String file,
+                               @DefaultValue("0") int workers,
+                               @DefaultValue("10000") int queueCapacity,
+                               @DefaultValue("500") int chunkSize,
+                               @DefaultValue("1000") int maxReportedRejects,
+                               @DefaultValue("100000") long progressInterval) {
+}
@@ -0,0 +1,17 @@
+package com.customer.service.section17.config;
+
+import com.customer.service.section17.otp.LoggingOtpSender;
+import com.customer.service.section17.otp.OtpSender;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class OtpConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    OtpSender otpSender() {
+        return new LoggingOtpSender();
+    }
+}
@@ -0,0 +1,15 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Sizing of the pre-generated OTP pool.
+ *
+ * @param capacity        number of OTPs kept ready; {@code 0} disables pre-generation
+ * @param refillThreshold pool size below which a background refill is started
+ */
+@ConfigurationProperties(prefix = "client.otp-pool")
+public record OtpPoolProperties(@DefaultValue("10000") int capacity,
+                                @DefaultValue("2500") int refillThreshold) {
+}
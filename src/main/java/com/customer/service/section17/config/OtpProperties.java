@@ -0,0 +1,23 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * OTP verification settings.
+ *
+ * @param ttl            how long an issued OTP can be verified
+ * @param maxAttempts    wrong guesses allowed before the OTP is locked until a resend
+ * @param resendCooldown minimum time between two OTPs for the same client
+ * @param maxPending     pending OTPs kept in memory
+ * @param flushBatchSize verified clients written per transaction
+ */
+@ConfigurationProperties(prefix = "client.otp")
+public record OtpProperties(@DefaultValue("5m") Duration ttl,
+                            @DefaultValue("5") int maxAttempts,
+                            @DefaultValue("30s") Duration resendCooldown,
+                            @DefaultValue("1000000") long maxPending,
+                            @DefaultValue("500") int flushBatchSize) {
+}
@@ -0,0 +1,29 @@
+package com.customer.service.section17.config;
+
+import com.customer.service.section17.outbox.ChangeEventSink;
+import com.customer.service.section17.outbox.FileChangeEventSink;
+import com.customer.service.section17.outbox.InMemoryChangeEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "client.outbox.sink", havingValue = "memory", matchIfMissing = true)
+    ChangeEventSink inMemoryChangeEventSink(OutboxProperties properties) {
+        return new InMemoryChangeEventSink(properties.memoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "client.outbox.sink", havingValue = "file")
+    ChangeEventSink fileChangeEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileChangeEventSink(Path.of(properties.filePath()), objectMapper);
+    }
+}
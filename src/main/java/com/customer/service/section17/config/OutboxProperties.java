@@ -0,0 +1,21 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Change-event outbox settings.
+ *
+ * @param sink           where the relay publishes events: {@code memory} or {@code file}
+ * @param relayEnabled   whether this instance runs the relay; off by default, enable it on exactly one instance
+ * @param relayBatchSize maximum events published per relay transaction
+ * @param memoryCapacity number of most recent events kept by the in-memory sink
+ * @param filePath       NDJSON file the file sink appends to
+ */
+@ConfigurationProperties(prefix = "client.outbox")
+public record OutboxProperties(@DefaultValue("memory") String sink,
+                               @DefaultValue("false") boolean relayEnabled,
+                               @DefaultValue("500") int relayBatchSize,
+                               @DefaultValue("10000") int memoryCapacity,
+                               @DefaultValue("client-changes.ndjson") String filePath) {
+}
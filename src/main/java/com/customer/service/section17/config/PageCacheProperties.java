@@ -0,0 +1,26 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the cache of serialized list and search pages.
+ *
+ * @param maximumSize          total bytes of JSON and gzip bodies kept before eviction
+ * @param expireAfterWrite     upper bound on an entry's life; mutations invalidate it sooner
+ * @param compressionThreshold bodies smaller than this are not pre-compressed
+ * @param followChangeFeed     whether pages are dropped when the outbox relay publishes a change
+ *                             made on any instance; without it, and with more than one instance,
+ *                             keep {@code expireAfterWrite} short
+ * @param feedPollIntervalMs   delay between polls of the change feed
+ */
+@ConfigurationProperties(prefix = "client.page-cache")
+public record PageCacheProperties(@DefaultValue("64MB") DataSize maximumSize,
+                                  @DefaultValue("10m") Duration expireAfterWrite,
+                                  @DefaultValue("2KB") DataSize compressionThreshold,
+                                  @DefaultValue("true") boolean followChangeFeed,
+                                  @DefaultValue("1000") long feedPollIntervalMs) {
+}
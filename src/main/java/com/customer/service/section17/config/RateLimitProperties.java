@@ -0,0 +1,51 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Admission limits applied to {@code /api/*} before a request reaches a controller.
+ *
+ * @param enabled        whether the limiter filter is installed
+ * @param read           limits for GET and HEAD requests
+ * @param write          limits for every other method
+ * @param callerHeader   header identifying the caller; requests without it skip the per-caller bucket
+ * @param callerRate     permits per second for each caller, {@code 0} disables per-caller limits
+ * @param callerBurst    requests a caller may send at once after being idle
+ * @param maxCallers     caller buckets kept in memory, least recently used are dropped first
+ * @param excludedPaths  bulk endpoints that stream for minutes and have their own backpressure
+ * @param unsampledPaths batch endpoints that hold a concurrency permit but whose latency,
+ *                       which grows with the batch size, does not move the limit
+ */
+@ConfigurationProperties(prefix = "client.rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue Limits read,
+                                  @DefaultValue Limits write,
+                                  @DefaultValue("X-Client-Key") String callerHeader,
+                                  @DefaultValue("0") double callerRate,
+                                  @DefaultValue("20") int callerBurst,
+                                  @DefaultValue("100000") long maxCallers,
+                                  @DefaultValue({"/api/v1/client/import", "/api/v1/client/export",
+                                          "/api/v1/client/getAllClients/stream"}) List<String> excludedPaths,
+                                  @DefaultValue({"/api/v1/client/createBatch", "/api/v1/client/updateBatch",
+                                          "/api/v1/client/deactivateBatch"}) List<String> unsampledPaths) {
+
+    /**
+     * @param rate               sustained permits per second
+     * @param burst              requests admitted at once after an idle period
+     * @param initialConcurrency starting concurrency limit
+     * @param minConcurrency     the limit never drops below this
+     * @param maxConcurrency     the limit never grows above this
+     * @param latencyThreshold   responses slower than this shrink the concurrency limit
+     */
+    public record Limits(@DefaultValue("2000") double rate,
+                         @DefaultValue("200") int burst,
+                         @DefaultValue("20") int initialConcurrency,
+                         @DefaultValue("4") int minConcurrency,
+                         @DefaultValue("200") int maxConcurrency,
+                         @DefaultValue("250ms") Duration latencyThreshold) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.customer.service.section17.config;
+
+import com.customer.service.section17.metrics.FirstRequestTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Startup instrumentation and the hooks the {@code fast-startup} build relies on.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    /**
+     * The CDS training run stops right after context refresh and has no database, so
+     * migrations are skipped when {@code spring.context.exit} is set.
+     */
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+            if (System.getProperty("spring.context.exit") == null) {
+                flyway.migrate();
+            }
+        };
+    }
+
+    @Bean
+    FilterRegistrationBean<FirstRequestTimer> firstRequestTimer(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<FirstRequestTimer> registration =
+                new FilterRegistrationBean<>(new FirstRequestTimer(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
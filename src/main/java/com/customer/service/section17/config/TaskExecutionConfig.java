@@ -0,0 +1,26 @@
+package com.customer.service.section17.config;
+
+import com.customer.service.section17.metrics.SqlStatementCounter;
+import com.customer.service.section17.routing.PrimaryRouting;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries per-request thread state onto the application task executor, which runs
+ * {@code StreamingResponseBody} and other MVC async work. Spring Boot only applies a
+ * {@link TaskDecorator} when exactly one is defined, so every such piece of state is
+ * propagated by this one.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TaskExecutionConfig {
+
+    /**
+     * Keeps the request's primary pin, so async reads see its writes, and counts the
+     * statements the task runs towards the request's {@code client.sql.statements}.
+     */
+    @Bean
+    TaskDecorator requestStateTaskDecorator() {
+        return task -> PrimaryRouting.propagate(SqlStatementCounter.propagate(task));
+    }
+}
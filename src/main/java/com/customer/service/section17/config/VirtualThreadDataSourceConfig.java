@@ -0,0 +1,50 @@
+package com.customer.service.section17.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active only when {@code spring.threads.virtual.enabled=true}. Tomcat then runs every
+ * request on its own virtual thread, so thousands of requests can be waiting on
+ * JDBC at once. The Hikari pool is wrapped in a {@link FairConnectionDataSource} so
+ * those threads queue first-in first-out for the bounded set of connections, and
+ * give up after the pool's connection timeout instead of piling onto MySQL.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor fairConnectionDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new FairConnectionDataSource(hikari, hikari.getMaximumPoolSize(),
+                            Duration.ofMillis(hikari.getConnectionTimeout()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder fairConnectionQueueMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof FairConnectionDataSource fair) {
+                Gauge.builder("client.datasource.fair.waiting", fair, FairConnectionDataSource::getQueueLength)
+                        .description("Threads queued for a database connection")
+                        .register(registry);
+            }
+        };
+    }
+}
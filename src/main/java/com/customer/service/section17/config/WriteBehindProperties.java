@@ -0,0 +1,21 @@
+package com.customer.service.section17.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Write-behind buffering of {@code PUT /updateById}.
+ *
+ * @param enabled         whether updates are buffered; off means every update is written inline
+ * @param stripes         lock stripes of the buffer, so concurrent updates of different clients rarely contend
+ * @param flushIntervalMs delay between flushes, the bound on how long an accepted update stays unwritten
+ * @param flushBatchSize  clients written per JDBC batch and transaction
+ * @param maxPending      buffered clients beyond which further updates are written inline
+ */
+@ConfigurationProperties(prefix = "client.write-behind")
+public record WriteBehindProperties(@DefaultValue("false") boolean enabled,
+                                    @DefaultValue("64") int stripes,
+                                    @DefaultValue("200") long flushIntervalMs,
+                                    @DefaultValue("500") int flushBatchSize,
+                                    @DefaultValue("100000") int maxPending) {
+}
@@ -6,18 +6,50 @@ public class CustomerConstant {
     public static final String OTP_CHARACTERS = "0123456789";
     public static final int OTP_LENGTH = 6;
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int STREAM_FLUSH_INTERVAL = 500;
+    public static final int MAX_BATCH_SIZE = 5000;
+    public static final int BATCH_FLUSH_SIZE = 500;
+
     public static final Integer SUCCESS_CODE = 111;
     public static final String SUCCESSFULLY_STORED = "Data Successfully Stored";
     public static final String SUCCESSFULLY_RETRIEVED = "Data Successfully Retrieved";
     public static final String SUCCESSFULLY_DELETED = "Data Successfully Deleted";
     public static final String SUCCESSFULLY_UPDATED = "Data Successfully Updated";
+    public static final String UPDATE_ACCEPTED = "Update Accepted";
+    public static final String SUCCESSFULLY_RESTORED = "Data Successfully Restored";
+    public static final String CACHE_STATS_RETRIEVED = "Cache Statistics Retrieved";
+    public static final String BATCH_PROCESSED = "Batch Successfully Processed";
+    public static final String VALIDATION_FAILED = "Validation Failed";
+    public static final String INVALID_CURSOR = "Invalid cursor";
+    public static final String INVALID_ID_COUNT = "Between 1 and " + MAX_PAGE_SIZE + " ids are required";
+    public static final String IMPORT_COMPLETED = "Import Completed";
+    public static final String IMPORT_ABORTED = "Import Aborted";
+    public static final String UNSUPPORTED_IMPORT_FORMAT = "Import body must be text/csv or application/x-ndjson";
+    public static final String MALFORMED_RECORD = "Malformed record";
+    public static final String RATE_LIMIT_EXCEEDED = "Too many requests, please retry later";
+    public static final String SERVER_OVERLOADED = "Server is overloaded, please retry later";
+    public static final String OTP_VERIFIED = "OTP Successfully Verified";
+    public static final String OTP_ALREADY_VERIFIED = "Customer is already verified";
+    public static final String OTP_INVALID = "Invalid OTP";
+    public static final String OTP_EXPIRED = "OTP has expired, please request a new one";
+    public static final String OTP_ATTEMPTS_EXCEEDED = "Too many invalid attempts, please request a new OTP";
+    public static final String OTP_RESENT = "OTP Successfully Sent";
+    public static final String OTP_RESEND_TOO_SOON = "Please wait before requesting another OTP";
+    public static final String IDEMPOTENCY_KEY_REUSED = "Idempotency-Key was already used for a different request";
+    public static final String IDEMPOTENCY_KEY_IN_PROGRESS = "A request with this Idempotency-Key is still in progress";
+    public static final String BATCH_TOO_LARGE = "Batch size must not exceed " + MAX_BATCH_SIZE;
     public static final Integer CUSTOMER_NOT_EXISTS_CODE = 900;
 
     public static final String CUSTOMER_ALREADY_EXISTS = "Customer already exists";
     public static final String CUSTOMER_NOT_EXISTS = "Customer does not exist";
+    public static final String CUSTOMER_NOT_ARCHIVED = "Customer is not archived";
     public static final String CUSTOMER_CREATED_SUCCESS = "Customer created Successfully";
     public static final String CUSTOMER_UPDATED_SUCCESS = "Customer updated Successfully";
     public static final String CUSTOMER_DELETED_SUCCESS = "Customer deleted Successfully";
     public static final String CUSTOMER_STATUS_UPDATED_SUCCESS = "Customer status updated Successfully";
+    public static final String CUSTOMER_CONCURRENTLY_MODIFIED = "Customer was modified concurrently, please retry";
+    public static final String CUSTOMER_VERSION_MISMATCH = "Customer has changed since the given ETag, please reload it";
 
 }
@@ -0,0 +1,56 @@
+package com.customer.service.section17.controller;
+
+import com.customer.service.section17.request.ClientSearchRequest;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.service.ClientAsyncService;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variant of the read endpoints in {@link ClientController}: the request
+ * thread is returned to Tomcat while the lookup runs on the async service's pool.
+ */
+@RestController
+@RequestMapping("/api/v1/client/async")
+@RequiredArgsConstructor
+public class ClientAsyncController {
+
+    private final ClientAsyncService clientAsyncService;
+
+    @GetMapping("/getAllClients")
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getAllClient(@RequestParam(required = false) Long afterId,
+                                                                             @RequestParam(required = false) Integer size) {
+        return clientAsyncService.getAllClient(afterId, size);
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<APIClientResponse>> searchClients(
+            @ParameterObject @ModelAttribute ClientSearchRequest request) {
+        return clientAsyncService.searchClients(request);
+    }
+
+    @GetMapping("/getById/{clientId}")
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getByClientId(@PathVariable long clientId) {
+        return clientAsyncService.getByClientId(clientId);
+    }
+
+    @GetMapping("/getByIds")
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getByClientIds(@RequestParam List<Long> ids) {
+        return clientAsyncService.getByClientIds(ids);
+    }
+
+    @GetMapping("/getByEmail")
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getByEmailAddress(@RequestParam String emailAddress) {
+        return clientAsyncService.getByEmailAddress(emailAddress);
+    }
+
+    @GetMapping("/getByMobile")
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getByMobileNumber(@RequestParam String mobileNumber) {
+        return clientAsyncService.getByMobileNumber(mobileNumber);
+    }
+}
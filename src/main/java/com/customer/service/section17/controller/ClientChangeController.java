@@ -0,0 +1,24 @@
+package com.customer.service.section17.controller;
+
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.service.ClientChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/client")
+@RequiredArgsConstructor
+public class ClientChangeController {
+
+    private final ClientChangeService clientChangeService;
+
+    @GetMapping("/changes")
+    public ResponseEntity<APIClientResponse> getChanges(@RequestParam(required = false) Long sinceSeq,
+                                                        @RequestParam(required = false) Integer size) {
+        return clientChangeService.getChanges(sinceSeq, size);
+    }
+}
@@ -1,30 +1,63 @@
 package com.customer.service.section17.controller;
 
+import com.customer.service.section17.cache.ClientPageCache;
+import com.customer.service.section17.cache.ClientPageCache.CachedPage;
+import com.customer.service.section17.request.ClientPatchRequest;
 import com.customer.service.section17.request.ClientRequest;
+import com.customer.service.section17.request.ClientSearchRequest;
+import com.customer.service.section17.request.ClientUpdateRequest;
 import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.response.ClientVersion;
+import com.customer.service.section17.service.ClientArchiveService;
 import com.customer.service.section17.service.ClientService;
+import com.customer.service.section17.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.customer.service.section17.constant.CustomerConstant.VALIDATION_FAILED;
+import static com.customer.service.section17.service.IdempotencyService.IDEMPOTENCY_KEY_HEADER;
+import static com.customer.service.section17.util.ClientETags.eTag;
+import static com.customer.service.section17.util.ClientETags.lastModified;
 
 @RestController
 @RequestMapping("/api/v1/client")
 @RequiredArgsConstructor
 public class ClientController {
 
+    private static final List<MediaType> BINARY_ENCODINGS =
+            List.of(MediaType.APPLICATION_CBOR, MediaType.valueOf("application/x-jackson-smile"));
+
     private final ClientService clientService;
+    private final IdempotencyService idempotencyService;
+    private final ClientPageCache clientPageCache;
+    private final ClientArchiveService clientArchiveService;
 
     @PostMapping("/create")
     public ResponseEntity<APIClientResponse> createClient(@RequestBody @Valid ClientRequest request,
-                                                          BindingResult bindingResult) {
+                                                          BindingResult bindingResult,
+                                                          @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                          String idempotencyKey) {
         if (bindingResult.hasErrors()) {
             return ResponseEntity.badRequest().body(
                     APIClientResponse.builder()
                             .errorCode(HttpStatus.BAD_REQUEST.value())
-                            .errorMessage("Validation Failed")
+                            .errorMessage(VALIDATION_FAILED)
                             .data(bindingResult.getFieldErrors()
                                     .stream()
                                     .map(fieldError -> fieldError.getDefaultMessage())
@@ -32,17 +65,57 @@ public class ClientController {
                             .build()
             );
         }
-        return clientService.createClient(request);
+        return idempotencyService.execute(idempotencyKey, "create", request,
+                () -> clientService.createClient(request));
     }
 
     @GetMapping("/getAllClients")
-    public ResponseEntity<APIClientResponse> getAllClient() {
-        return clientService.getAllClient();
+    public ResponseEntity<?> getAllClient(@RequestParam(required = false) Long afterId,
+                                          @RequestParam(required = false) Integer size,
+                                          @RequestHeader HttpHeaders headers) {
+        return cachedPage("getAllClients", Arrays.asList(afterId, size), headers,
+                () -> clientService.getAllClient(afterId, size));
+    }
+
+    @GetMapping(value = "/getAllClients/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllClients() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(clientService::streamAllClients);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchClients(@ParameterObject @ModelAttribute ClientSearchRequest request,
+                                           @RequestHeader HttpHeaders headers) {
+        return cachedPage("search", request, headers, () -> clientService.searchClients(request));
     }
 
+    /**
+     * Conditional requests are first checked against the client's version alone; only a
+     * changed (or unconditional) request loads and serializes the client.
+     */
     @GetMapping("/getById/{clientId}")
-    public ResponseEntity<APIClientResponse> getByClientId(@PathVariable long clientId) {
-        return clientService.getByClientId(clientId);
+    public ResponseEntity<APIClientResponse> getByClientId(@PathVariable long clientId,
+                                                           @RequestHeader HttpHeaders headers,
+                                                           WebRequest webRequest) {
+        if (!headers.getIfNoneMatch().isEmpty() || headers.getIfModifiedSince() != -1) {
+            Optional<ClientVersion> version = clientService.getClientVersion(clientId);
+            if (version.isPresent() && webRequest.checkNotModified(
+                    eTag(version.get()), lastModified(version.get().updatedDate()))) {
+                return null;
+            }
+        }
+        return withValidators(clientService.getByClientId(clientId));
+    }
+
+    @GetMapping("/getByEmail")
+    public ResponseEntity<APIClientResponse> getByEmailAddress(@RequestParam String emailAddress) {
+        return clientService.getByEmailAddress(emailAddress);
+    }
+
+    @GetMapping("/getByMobile")
+    public ResponseEntity<APIClientResponse> getByMobileNumber(@RequestParam String mobileNumber) {
+        return clientService.getByMobileNumber(mobileNumber);
     }
 
     @DeleteMapping("/deleteById/{clientId}")
@@ -50,8 +123,128 @@ public class ClientController {
         return clientService.deleteByClientId(clientId);
     }
 
+    @PostMapping("/restore/{clientId}")
+    public ResponseEntity<APIClientResponse> restoreClient(@PathVariable long clientId) {
+        return clientArchiveService.restoreClient(clientId);
+    }
+
+    /**
+     * Replaces the client. With {@code If-Match} set to an ETag from {@code getById}, the
+     * update only applies to that version of the client and answers 412 otherwise.
+     */
     @PutMapping("/updateById/{clientId}")
-    public ResponseEntity<APIClientResponse> updateClient(@PathVariable long clientId, @RequestBody ClientRequest request) {
-        return clientService.updateClientDetails(clientId, request);
+    public ResponseEntity<APIClientResponse> updateClient(@PathVariable long clientId, @RequestBody ClientRequest request,
+                                                          @RequestHeader HttpHeaders headers,
+                                                          @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                          String idempotencyKey) {
+        List<String> ifMatch = headers.getIfMatch();
+        return withValidators(idempotencyService.execute(idempotencyKey, "update:" + clientId, request,
+                () -> clientService.updateClientDetails(clientId, request, ifMatch)));
+    }
+
+    /**
+     * Changes the given fields of the client; {@code If-Match} works as for {@code PUT}.
+     */
+    @PatchMapping("/updateById/{clientId}")
+    public ResponseEntity<APIClientResponse> patchClient(@PathVariable long clientId,
+                                                         @RequestBody @Valid ClientPatchRequest request,
+                                                         BindingResult bindingResult,
+                                                         @RequestHeader HttpHeaders headers,
+                                                         @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                         String idempotencyKey) {
+        if (bindingResult.hasErrors()) {
+            return ResponseEntity.badRequest().body(
+                    APIClientResponse.builder()
+                            .errorCode(HttpStatus.BAD_REQUEST.value())
+                            .errorMessage(VALIDATION_FAILED)
+                            .data(bindingResult.getFieldErrors()
+                                    .stream()
+                                    .map(fieldError -> fieldError.getDefaultMessage())
+                                    .toList())
+                            .build()
+            );
+        }
+        List<String> ifMatch = headers.getIfMatch();
+        return withValidators(idempotencyService.execute(idempotencyKey, "patch:" + clientId, request,
+                () -> clientService.patchClientDetails(clientId, request, ifMatch)));
+    }
+
+    @PostMapping("/createBatch")
+    public ResponseEntity<APIClientResponse> createClients(@RequestBody List<ClientRequest> requests,
+                                                           @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                           String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "createBatch", requests,
+                () -> clientService.createClients(requests));
+    }
+
+    @PutMapping("/updateBatch")
+    public ResponseEntity<APIClientResponse> updateClients(@RequestBody List<ClientUpdateRequest> requests,
+                                                           @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                           String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "updateBatch", requests,
+                () -> clientService.updateClients(requests));
+    }
+
+    @PostMapping("/deactivateBatch")
+    public ResponseEntity<APIClientResponse> deactivateClients(@RequestBody List<Long> clientIds) {
+        return clientService.deactivateClients(clientIds);
+    }
+
+    @GetMapping("/cacheStats")
+    public ResponseEntity<APIClientResponse> getCacheStats() {
+        return clientService.getCacheStats();
+    }
+
+    /**
+     * Serves a JSON page from its cached bytes, gzip-encoded when the client accepts it;
+     * binary encodings negotiated through {@code Accept} bypass the cache.
+     */
+    private ResponseEntity<?> cachedPage(String endpoint, Object params, HttpHeaders headers,
+                                         Supplier<ResponseEntity<APIClientResponse>> loader) {
+        if (!acceptsJson(headers.getAccept())) {
+            return loader.get();
+        }
+        CachedPage page = clientPageCache.get(endpoint, params, loader);
+        boolean gzip = page.gzip() != null && acceptsGzip(headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? page.gzipETag() : page.eTag();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(page.status())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (!page.status().is2xxSuccessful()) {
+            return builder.contentType(MediaType.APPLICATION_JSON).body(page.json());
+        }
+        builder.eTag(eTag);
+        if (headers.getIfNoneMatch().contains(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(builder.build().getHeaders()).build();
+        }
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(gzip ? page.gzip() : page.json());
+    }
+
+    private static boolean acceptsJson(List<MediaType> accept) {
+        return accept.isEmpty() || accept.stream().anyMatch(type -> type.includes(MediaType.APPLICATION_JSON))
+                && accept.stream().noneMatch(type -> type.isConcrete() && BINARY_ENCODINGS.stream()
+                        .anyMatch(type::isCompatibleWith));
+    }
+
+    private static boolean acceptsGzip(List<String> acceptEncoding) {
+        return acceptEncoding.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(coding -> coding.trim().toLowerCase().split(";\\s*q=", 2))
+                .anyMatch(coding -> coding[0].trim().equals("gzip")
+                        && (coding.length == 1 || !coding[1].trim().matches("0(\\.0*)?")));
+    }
+
+    private static ResponseEntity<APIClientResponse> withValidators(ResponseEntity<APIClientResponse> response) {
+        if (response.getBody() != null && response.getBody().getData() instanceof ClientResponse client
+                && client.getVersion() != null) {
+            return ResponseEntity.status(response.getStatusCode())
+                    .eTag(eTag(new ClientVersion(client.getClientId(), client.getVersion(), client.getUpdatedDate())))
+                    .lastModified(lastModified(client.getUpdatedDate()))
+                    .cacheControl(CacheControl.noCache())
+                    .body(response.getBody());
+        }
+        return response;
     }
 }
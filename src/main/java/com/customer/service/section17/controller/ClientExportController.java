@@ -0,0 +1,47 @@
+package com.customer.service.section17.controller;
+
+import com.customer.service.section17.enums.ExportFormat;
+import com.customer.service.section17.service.ClientExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/client")
+@RequiredArgsConstructor
+public class ClientExportController {
+
+    public static final String WATERMARK_HEADER = "X-Export-Watermark";
+
+    private final ClientExportService clientExportService;
+
+    /**
+     * Downloads a gzip file of clients. The {@value #WATERMARK_HEADER} header is the upper
+     * bound of this export; pass it as {@code updatedAfter} to fetch only later changes.
+     * The bound trails now slightly, so the most recent changes come with the next export.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportClients(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter) {
+        LocalDateTime updatedUntil = clientExportService.settledUntil();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("clients." + format.extension() + ".gz")
+                        .build()
+                        .toString())
+                .header(WATERMARK_HEADER, updatedUntil.toString())
+                .body(output -> clientExportService.exportClients(output, format, updatedAfter, updatedUntil));
+    }
+}
@@ -0,0 +1,31 @@
+package com.customer.service.section17.controller;
+
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.service.ClientImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/client")
+@RequiredArgsConstructor
+public class ClientImportController {
+
+    private final ClientImportService clientImportService;
+
+    /**
+     * Reads the request body as it arrives, so uploads of any size are not buffered in memory.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<APIClientResponse> importClients(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                           InputStream body) throws IOException {
+        return clientImportService.importClients(body, contentType);
+    }
+}
@@ -0,0 +1,45 @@
+package com.customer.service.section17.controller;
+
+import com.customer.service.section17.request.OtpVerifyRequest;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.service.ClientOtpService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import static com.customer.service.section17.constant.CustomerConstant.VALIDATION_FAILED;
+
+@RestController
+@RequestMapping("/api/v1/client")
+@RequiredArgsConstructor
+public class ClientOtpController {
+
+    private final ClientOtpService clientOtpService;
+
+    @PostMapping("/verifyOtp/{clientId}")
+    public ResponseEntity<APIClientResponse> verifyOtp(@PathVariable long clientId,
+                                                       @RequestBody @Valid OtpVerifyRequest request,
+                                                       BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return ResponseEntity.badRequest().body(
+                    APIClientResponse.builder()
+                            .errorCode(HttpStatus.BAD_REQUEST.value())
+                            .errorMessage(VALIDATION_FAILED)
+                            .data(bindingResult.getFieldErrors()
+                                    .stream()
+                                    .map(fieldError -> fieldError.getDefaultMessage())
+                                    .toList())
+                            .build()
+            );
+        }
+        return clientOtpService.verifyOtp(clientId, request);
+    }
+
+    @PostMapping("/resendOtp/{clientId}")
+    public ResponseEntity<APIClientResponse> resendOtp(@PathVariable long clientId) {
+        return clientOtpService.resendOtp(clientId);
+    }
+}
@@ -0,0 +1,83 @@
+package com.customer.service.section17.credential;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.customer.service.section17.constant.CustomerConstant.*;
+
+/**
+ * Thread-safe generator for passwords, OTPs and SHA-256 hashes.
+ *
+ * <p>Random bytes come from a fixed set of independently seeded DRBG instances, so
+ * concurrent callers (including virtual threads, which would defeat a
+ * {@code ThreadLocal}) rarely contend on the same one. Each value is produced from a
+ * single {@code nextBytes} call into a small buffer and mapped to the alphabet with
+ * rejection sampling, which keeps every character uniformly distributed.
+ */
+public final class CredentialGenerator {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final SecureRandom[] randoms;
+    private final MessageDigest sha256;
+
+    public CredentialGenerator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public CredentialGenerator(int stripes) {
+        try {
+            this.randoms = new SecureRandom[Math.max(stripes, 1)];
+            for (int i = 0; i < randoms.length; i++) {
+                randoms[i] = SecureRandom.getInstance("DRBG");
+            }
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Error: required security algorithm not found.", e);
+        }
+    }
+
+    public String password() {
+        return random(PASS_CHARACTERS, PASS_LENGTH);
+    }
+
+    public String otp() {
+        return random(OTP_CHARACTERS, OTP_LENGTH);
+    }
+
+    /**
+     * @return the SHA-256 hash of the given ASCII value in lowercase hexadecimal
+     */
+    public String sha256Hex(String value) {
+        MessageDigest digest;
+        try {
+            digest = (MessageDigest) sha256.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Error: SHA-256 digest is not cloneable.", e);
+        }
+        return HEX.formatHex(digest.digest(value.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private String random(String alphabet, int length) {
+        int size = alphabet.length();
+        int limit = 256 - (256 % size);
+        char[] chars = new char[length];
+        byte[] bytes = new byte[length * 2];
+        SecureRandom random = randoms[ThreadLocalRandom.current().nextInt(randoms.length)];
+        int filled = 0;
+        while (filled < length) {
+            random.nextBytes(bytes);
+            for (int i = 0; i < bytes.length && filled < length; i++) {
+                int value = bytes[i] & 0xff;
+                if (value < limit) {
+                    chars[filled++] = alphabet.charAt(value % size);
+                }
+            }
+        }
+        return new String(chars);
+    }
+}
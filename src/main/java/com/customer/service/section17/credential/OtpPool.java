@@ -0,0 +1,86 @@
+package com.customer.service.section17.credential;
+
+import com.customer.service.section17.config.OtpPoolProperties;
+import com.customer.service.section17.util.CustomerUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free pool of pre-generated OTPs so burst creates do not pay for OTP generation
+ * on the request thread. A single background thread tops the pool back up to
+ * {@code capacity} whenever it drops below {@code refillThreshold}; callers never
+ * wait for it and fall back to inline generation when the pool is empty.
+ */
+@Component
+public class OtpPool implements MeterBinder {
+
+    private final Queue<String> otps = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final OtpPoolProperties properties;
+    private final ExecutorService refiller = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("otp-pool-refill").daemon().factory());
+
+    public OtpPool(OtpPoolProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void fill() {
+        scheduleRefill();
+    }
+
+    public String take() {
+        String otp = otps.poll();
+        if (otp == null) {
+            scheduleRefill();
+            return CustomerUtil.generateOtp();
+        }
+        if (size.decrementAndGet() < properties.refillThreshold()) {
+            scheduleRefill();
+        }
+        return otp;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("client.otp.pool.size", this, OtpPool::size)
+                .description("Pre-generated OTPs ready to be handed out")
+                .register(registry);
+    }
+
+    private void scheduleRefill() {
+        if (properties.capacity() > 0 && refilling.compareAndSet(false, true)) {
+            refiller.execute(() -> {
+                try {
+                    while (size.get() < properties.capacity()) {
+                        otps.offer(CustomerUtil.generateOtp());
+                        size.incrementAndGet();
+                    }
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refiller.shutdownNow();
+    }
+}
@@ -0,0 +1,69 @@
+package com.customer.service.section17.entity;
+
+import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.request.ClientAddress;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cold copy of a {@link ClientModel} that stayed INACTIVE past the archival age. Rows
+ * are only ever written by set-based copies between the two tables, so the columns
+ * mirror {@code client_details} one for one, keeping the original id and version.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+@Entity
+@Table(name = "client_details_archive")
+public class ClientArchiveModel {
+
+    @Id
+    @Column(name = "id")
+    private Long clientId;
+
+    @Column(name = "client_name")
+    private String clientName;
+
+    @Column(name = "client_password")
+    private String clientPassword;
+
+    @Column(name = "client_age")
+    private Integer clientAge;
+
+    @Column(name = "client_mobile_number")
+    private String clientMobileNumber;
+
+    @Column(name = "client_email_address")
+    private String clientEmailAddress;
+
+    @Embedded
+    private ClientAddress clientAddress;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private CustomerStatus status;
+
+    @Column(name = "otp")
+    private String clientOtp;
+
+    @Column(name = "verified")
+    private boolean verified;
+
+    @Column(name = "created_by")
+    private LocalDateTime createDate;
+
+    @Column(name = "updated_by")
+    private LocalDateTime updatedDate;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,60 @@
+package com.customer.service.section17.entity;
+
+import com.customer.service.section17.enums.ClientEventType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row written in the same transaction as the client mutation it describes.
+ *
+ * <p>{@code sequence} is allocated at insert time and therefore does not follow commit
+ * order. The relay assigns {@code publishedSequence} in the order it publishes
+ * events; that gap-free, commit-ordered number is what the change feed pages on.
+ * {@code clientVersion} is the client row's version after the mutation, which does
+ * follow commit order for one client.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+@Entity
+@Table(name = "client_change_outbox", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_published_sequence", columnNames = "published_sequence")
+})
+public class ClientChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_change_seq")
+    @SequenceGenerator(name = "client_change_seq", sequenceName = "client_change_outbox_seq", allocationSize = 500)
+    @Column(name = "seq")
+    private Long sequence;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "client_version")
+    private Long clientVersion;
+
+    @Column(name = "event_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ClientEventType eventType;
+
+    @Column(name = "payload", length = 4000)
+    private String payload;
+
+    @Column(name = "created_date")
+    @CreationTimestamp
+    private LocalDateTime createdDate;
+
+    @Column(name = "published_sequence")
+    private Long publishedSequence;
+
+    @Column(name = "published_date")
+    private LocalDateTime publishedDate;
+}
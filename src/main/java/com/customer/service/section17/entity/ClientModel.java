@@ -4,7 +4,9 @@ import com.customer.service.section17.enums.CustomerStatus;
 import com.customer.service.section17.request.ClientAddress;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -17,11 +19,22 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode
 @Builder(toBuilder = true)
 @Entity
-@Table(name = "client_details")
+@DynamicUpdate
+@Table(name = "client_details", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_client_email_address", columnNames = "client_email_address"),
+        @UniqueConstraint(name = "uk_client_mobile_number", columnNames = "client_mobile_number")
+}, indexes = {
+        @Index(name = "idx_client_status_verified_created", columnList = "status, verified, created_by, id"),
+        @Index(name = "idx_client_location", columnList = "country, state, city"),
+        @Index(name = "idx_client_created", columnList = "created_by, id"),
+        @Index(name = "idx_client_updated", columnList = "updated_by"),
+        @Index(name = "idx_client_status_updated", columnList = "status, updated_by")
+})
 public class ClientModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_seq")
+    @SequenceGenerator(name = "client_seq", sequenceName = "client_model_seq", allocationSize = 500)
     @Column(name = "id")
     private Long clientId;
 
@@ -60,4 +73,9 @@ public class ClientModel {
     @Column(name = "updated_by")
     @UpdateTimestamp
     private LocalDateTime updatedDate;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
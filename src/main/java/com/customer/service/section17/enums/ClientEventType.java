@@ -0,0 +1,7 @@
+package com.customer.service.section17.enums;
+
+public enum ClientEventType {
+    CREATED,
+    UPDATED,
+    DEACTIVATED
+}
@@ -0,0 +1,6 @@
+package com.customer.service.section17.enums;
+
+public enum ClientSortField {
+    ID,
+    CREATE_DATE
+}
@@ -0,0 +1,8 @@
+package com.customer.service.section17.enums;
+
+public enum OtpCheck {
+    VERIFIED,
+    INVALID,
+    LOCKED,
+    EXPIRED
+}
@@ -1,11 +1,18 @@
 package com.customer.service.section17.exceptions;
 
 import com.customer.service.section17.response.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.customer.service.section17.constant.CustomerConstant.CUSTOMER_CONCURRENTLY_MODIFIED;
+import static com.customer.service.section17.constant.CustomerConstant.SERVER_OVERLOADED;
+
 /**
  * Global exception handler for the application.
  *
@@ -48,4 +55,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(errorResponse);
     }
+
+    /**
+     * Handles updates that lost an optimistic-locking race against another writer.
+     *
+     * @param e the {@link ObjectOptimisticLockingFailureException} raised when the row version changed
+     * @return a {@link ResponseEntity} containing an {@link ErrorResponse}
+     *         with HTTP status {@code 409 CONFLICT}
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentModification(ObjectOptimisticLockingFailureException e) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(), CUSTOMER_CONCURRENTLY_MODIFIED);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles work refused by a full asynchronous worker pool.
+     *
+     * @param e the {@link RejectedExecutionException} raised when the pool's queue is full
+     * @return a {@link ResponseEntity} containing an {@link ErrorResponse}
+     *         with HTTP status {@code 503 SERVICE_UNAVAILABLE}
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), SERVER_OVERLOADED);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
 }
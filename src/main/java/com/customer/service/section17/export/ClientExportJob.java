@@ -0,0 +1,56 @@
+package com.customer.service.section17.export;
+
+import com.customer.service.section17.config.ExportProperties;
+import com.customer.service.section17.service.ClientExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Nightly incremental export. Each run writes the rows updated since the previous run to
+ * a new gzip file and then advances the {@code .watermark} file; a failed run leaves the
+ * watermark untouched so the next run exports the same rows again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "client.export.job-enabled", havingValue = "true")
+public class ClientExportJob {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ClientExportService clientExportService;
+    private final ExportProperties properties;
+
+    @Scheduled(cron = "${client.export.cron:0 0 2 * * *}")
+    public void export() throws IOException {
+        Path directory = Files.createDirectories(Path.of(properties.directory()));
+        Path watermarkFile = directory.resolve(".watermark");
+        LocalDateTime updatedAfter = Files.exists(watermarkFile)
+                ? LocalDateTime.parse(Files.readString(watermarkFile).strip())
+                : null;
+        LocalDateTime updatedUntil = clientExportService.settledUntil();
+
+        String name = "clients-" + FILE_TIMESTAMP.format(updatedUntil) + "." + properties.format().extension() + ".gz";
+        Path partial = directory.resolve(name + ".part");
+        long rows;
+        try (OutputStream output = Files.newOutputStream(partial)) {
+            rows = clientExportService.exportClients(output, properties.format(), updatedAfter, updatedUntil);
+        }
+        Files.move(partial, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+        Path watermarkPartial = directory.resolve(".watermark.part");
+        Files.writeString(watermarkPartial, updatedUntil.toString());
+        Files.move(watermarkPartial, watermarkFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        log.info("Exported {} clients updated after {} to {}", rows, updatedAfter, name);
+    }
+}
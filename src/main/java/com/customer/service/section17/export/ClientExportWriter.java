@@ -0,0 +1,29 @@
+package com.customer.service.section17.export;
+
+import com.customer.service.section17.enums.ExportFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes export rows straight from the {@link ResultSet} without building entities or
+ * DTOs. Expects the columns selected by {@link #COLUMNS}, in that order.
+ */
+public interface ClientExportWriter extends Closeable {
+
+    String COLUMNS = "id, client_name, client_age, client_mobile_number, client_email_address, "
+            + "address, city, state, country, status, verified, created_by, updated_by, version";
+
+    void write(ResultSet row) throws SQLException, IOException;
+
+    static ClientExportWriter of(ExportFormat format, OutputStream output, JsonFactory jsonFactory) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonClientExportWriter(jsonFactory.createGenerator(output));
+            case CSV -> new CsvClientExportWriter(output);
+        };
+    }
+}
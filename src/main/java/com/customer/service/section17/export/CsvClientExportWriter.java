@@ -0,0 +1,69 @@
+package com.customer.service.section17.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * RFC 4180 CSV with a header line; the column names match the import format so an
+ * export can be re-imported as is.
+ */
+class CsvClientExportWriter implements ClientExportWriter {
+
+    private static final String HEADER = "clientId,clientName,clientAge,clientMobileNumber,clientEmailAddress,"
+            + "address,city,state,country,status,verified,createDate,updatedDate,version\n";
+
+    private final Writer writer;
+
+    CsvClientExportWriter(OutputStream output) throws IOException {
+        this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+    }
+
+    @Override
+    public void write(ResultSet row) throws SQLException, IOException {
+        writer.write(Long.toString(row.getLong(1)));
+        for (int column = 2; column <= 10; column++) {
+            writer.write(',');
+            writeText(row.getString(column));
+        }
+        writer.write(',');
+        writer.write(Boolean.toString(row.getBoolean(11)));
+        writer.write(',');
+        writeTimestamp(row.getTimestamp(12));
+        writer.write(',');
+        writeTimestamp(row.getTimestamp(13));
+        writer.write(',');
+        writer.write(Long.toString(row.getLong(14)));
+        writer.write('\n');
+    }
+
+    private void writeTimestamp(Timestamp value) throws IOException {
+        if (value != null) {
+            writer.write(value.toLocalDateTime().toString());
+        }
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
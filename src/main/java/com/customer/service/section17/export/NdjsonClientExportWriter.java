@@ -0,0 +1,59 @@
+package com.customer.service.section17.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * One JSON object per line using the same field names as {@code ClientResponse}.
+ */
+class NdjsonClientExportWriter implements ClientExportWriter {
+
+    private final JsonGenerator generator;
+
+    NdjsonClientExportWriter(JsonGenerator generator) {
+        this.generator = generator;
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    @Override
+    public void write(ResultSet row) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("clientId", row.getLong(1));
+        generator.writeStringField("clientName", row.getString(2));
+        int age = row.getInt(3);
+        if (row.wasNull()) {
+            generator.writeNullField("clientAge");
+        } else {
+            generator.writeNumberField("clientAge", age);
+        }
+        generator.writeStringField("clientMobileNumber", row.getString(4));
+        generator.writeStringField("clientEmailAddress", row.getString(5));
+        generator.writeObjectFieldStart("clientAddress");
+        generator.writeStringField("address", row.getString(6));
+        generator.writeStringField("city", row.getString(7));
+        generator.writeStringField("state", row.getString(8));
+        generator.writeStringField("country", row.getString(9));
+        generator.writeEndObject();
+        generator.writeStringField("status", row.getString(10));
+        generator.writeBooleanField("verified", row.getBoolean(11));
+        writeTimestamp("createDate", row.getTimestamp(12));
+        writeTimestamp("updatedDate", row.getTimestamp(13));
+        generator.writeNumberField("version", row.getLong(14));
+        generator.writeEndObject();
+    }
+
+    private void writeTimestamp(String name, Timestamp value) throws IOException {
+        generator.writeStringField(name, value == null ? null : value.toLocalDateTime().toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeRaw('\n');
+        generator.close();
+    }
+}
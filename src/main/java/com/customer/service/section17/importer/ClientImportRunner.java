@@ -0,0 +1,35 @@
+package com.customer.service.section17.importer;
+
+import com.customer.service.section17.config.ImportProperties;
+import com.customer.service.section17.enums.ImportFormat;
+import com.customer.service.section17.service.ClientImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports {@code client.import.file} once at startup, e.g.
+ * {@code java -jar app.jar --client.import.file=/data/clients.csv}. The report is logged.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "client.import.file")
+public class ClientImportRunner implements ApplicationRunner {
+
+    private final ClientImportService clientImportService;
+    private final ImportProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path file = Path.of(properties.file());
+        try (InputStream input = Files.newInputStream(file)) {
+            clientImportService.runImport(input, ImportFormat.fromFileName(file.getFileName().toString()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.customer.service.section17.importer;
+
+import com.customer.service.section17.enums.ImportFormat;
+import com.customer.service.section17.request.ClientRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Turns one line of an import file into a {@link ClientRequest}. Implementations are
+ * stateless and shared by all import workers.
+ */
+public interface ClientRecordParser {
+
+    /**
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    ClientRequest parse(String line);
+
+    /**
+     * @param header first line of the file for CSV, ignored for NDJSON
+     */
+    static ClientRecordParser of(ImportFormat format, String header, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new CsvClientRecordParser(header);
+            case NDJSON -> new NdjsonClientRecordParser(objectMapper);
+        };
+    }
+}
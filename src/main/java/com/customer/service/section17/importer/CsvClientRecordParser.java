@@ -0,0 +1,91 @@
+package com.customer.service.section17.importer;
+
+import com.customer.service.section17.request.ClientAddress;
+import com.customer.service.section17.request.ClientRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses CSV rows whose columns are named by the header line, in any order:
+ * {@code clientName, clientAge, clientMobileNumber, clientEmailAddress, address, city,
+ * state, country}. Fields may be double-quoted; quoted line breaks are not supported.
+ */
+class CsvClientRecordParser implements ClientRecordParser {
+
+    private static final List<String> COLUMNS = List.of("clientName", "clientAge", "clientMobileNumber",
+            "clientEmailAddress", "address", "city", "state", "country");
+
+    private final int[] positions = new int[COLUMNS.size()];
+
+    CsvClientRecordParser(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import requires a header line");
+        }
+        List<String> names = split(header.strip());
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            positions[i] = names.indexOf(COLUMNS.get(i));
+        }
+    }
+
+    @Override
+    public ClientRequest parse(String line) {
+        List<String> fields = split(line);
+        String age = field(fields, 1);
+        ClientAddress address = ClientAddress.builder()
+                .address(field(fields, 4))
+                .city(field(fields, 5))
+                .state(field(fields, 6))
+                .country(field(fields, 7))
+                .build();
+        boolean hasAddress = address.getAddress() != null || address.getCity() != null
+                || address.getState() != null || address.getCountry() != null;
+        return ClientRequest.builder()
+                .clientName(field(fields, 0))
+                .clientAge(age == null ? null : Integer.valueOf(age))
+                .clientMobileNumber(field(fields, 2))
+                .clientEmailAddress(field(fields, 3))
+                .clientAddress(hasAddress ? address : null)
+                .build();
+    }
+
+    private String field(List<String> fields, int column) {
+        int position = positions[column];
+        if (position < 0 || position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
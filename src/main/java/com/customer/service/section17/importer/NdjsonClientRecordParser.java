@@ -0,0 +1,24 @@
+package com.customer.service.section17.importer;
+
+import com.customer.service.section17.request.ClientRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+class NdjsonClientRecordParser implements ClientRecordParser {
+
+    private final ObjectReader reader;
+
+    NdjsonClientRecordParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(ClientRequest.class);
+    }
+
+    @Override
+    public ClientRequest parse(String line) {
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+    }
+}
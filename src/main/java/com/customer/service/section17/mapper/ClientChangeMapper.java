@@ -0,0 +1,17 @@
+package com.customer.service.section17.mapper;
+
+import com.customer.service.section17.entity.ClientChangeEvent;
+import com.customer.service.section17.response.ClientChangeEventResponse;
+
+public class ClientChangeMapper {
+
+    public static ClientChangeEventResponse eventToResponseMapper(ClientChangeEvent event) {
+        return ClientChangeEventResponse.builder()
+                .sequence(event.getPublishedSequence())
+                .clientId(event.getClientId())
+                .eventType(event.getEventType().name())
+                .payload(event.getPayload())
+                .createdDate(event.getCreatedDate())
+                .build();
+    }
+}
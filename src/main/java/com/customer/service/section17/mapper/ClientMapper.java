@@ -1,9 +1,14 @@
 package com.customer.service.section17.mapper;
 
+import com.customer.service.section17.entity.ClientArchiveModel;
 import com.customer.service.section17.entity.ClientModel;
 import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.request.ClientAddress;
+import com.customer.service.section17.request.ClientPatchRequest;
 import com.customer.service.section17.request.ClientRequest;
 import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.response.ClientSearchRow;
+import com.customer.service.section17.response.ClientStatusResponse;
 
 import static com.customer.service.section17.util.CustomerUtil.generateOtp;
 import static com.customer.service.section17.util.CustomerUtil.generatePassword;
@@ -22,10 +27,52 @@ public class ClientMapper {
                 .status(clientModel.getStatus().name())
                 .verified(clientModel.isVerified())
                 .updatedDate(clientModel.getUpdatedDate())
+                .version(clientModel.getVersion())
+                .build();
+    }
+
+    public static ClientResponse archiveToResponseMapper(ClientArchiveModel archiveModel) {
+        return ClientResponse.builder()
+                .clientId(archiveModel.getClientId())
+                .clientName(archiveModel.getClientName())
+                .clientAge(archiveModel.getClientAge())
+                .clientMobileNumber(archiveModel.getClientMobileNumber())
+                .clientEmailAddress(archiveModel.getClientEmailAddress())
+                .clientAddress(archiveModel.getClientAddress())
+                .createDate(archiveModel.getCreateDate())
+                .status(archiveModel.getStatus().name())
+                .verified(archiveModel.isVerified())
+                .updatedDate(archiveModel.getUpdatedDate())
+                .version(archiveModel.getVersion())
+                .build();
+    }
+
+    public static ClientResponse rowToResponseMapper(ClientSearchRow row) {
+        return ClientResponse.builder()
+                .clientId(row.clientId())
+                .clientName(row.clientName())
+                .clientAge(row.clientAge())
+                .clientMobileNumber(row.clientMobileNumber())
+                .clientEmailAddress(row.clientEmailAddress())
+                .clientAddress(ClientAddress.builder()
+                        .address(row.address())
+                        .city(row.city())
+                        .state(row.state())
+                        .country(row.country())
+                        .build())
+                .createDate(row.createDate())
+                .status(row.status().name())
+                .verified(row.verified())
+                .updatedDate(row.updatedDate())
+                .version(row.version())
                 .build();
     }
 
     public static ClientModel requestToModel(ClientRequest request){
+        return requestToModel(request, generateOtp());
+    }
+
+    public static ClientModel requestToModel(ClientRequest request, String otp){
         return ClientModel.builder()
                 .clientName(request.getClientName())
                 .clientPassword(generatePassword())
@@ -34,8 +81,54 @@ public class ClientMapper {
                 .clientEmailAddress(request.getClientEmailAddress())
                 .clientAddress(request.getClientAddress())
                 .status(CustomerStatus.ACTIVE)
-                .clientOtp(generateOtp())
+                .clientOtp(otp)
                 .verified(false)
                 .build();
     }
+
+    public static ClientStatusResponse statusResponse(long clientId, CustomerStatus status) {
+        return ClientStatusResponse.builder()
+                .clientId(clientId)
+                .status(status.name())
+                .build();
+    }
+
+    /**
+     * Copies only the fields present in the patch, so {@code @DynamicUpdate} writes
+     * just the columns that actually changed.
+     */
+    public static void patchModel(ClientModel clientModel, ClientPatchRequest patch) {
+        if (patch.getClientName() != null) {
+            clientModel.setClientName(patch.getClientName());
+        }
+        if (patch.getClientAge() != null) {
+            clientModel.setClientAge(patch.getClientAge());
+        }
+        if (patch.getClientMobileNumber() != null) {
+            clientModel.setClientMobileNumber(patch.getClientMobileNumber());
+        }
+        if (patch.getClientEmailAddress() != null) {
+            clientModel.setClientEmailAddress(patch.getClientEmailAddress());
+        }
+        ClientAddress address = patch.getClientAddress();
+        if (address != null) {
+            ClientAddress current = clientModel.getClientAddress() == null
+                    ? new ClientAddress()
+                    : clientModel.getClientAddress();
+            clientModel.setClientAddress(ClientAddress.builder()
+                    .address(address.getAddress() != null ? address.getAddress() : current.getAddress())
+                    .city(address.getCity() != null ? address.getCity() : current.getCity())
+                    .state(address.getState() != null ? address.getState() : current.getState())
+                    .country(address.getCountry() != null ? address.getCountry() : current.getCountry())
+                    .build());
+        }
+    }
+
+    public static void updateModel(ClientModel clientModel, ClientRequest request) {
+        clientModel.setClientName(request.getClientName());
+        clientModel.setClientAge(request.getClientAge());
+        clientModel.setClientMobileNumber(request.getClientMobileNumber());
+        clientModel.setClientEmailAddress(request.getClientEmailAddress());
+        clientModel.setClientAddress(request.getClientAddress());
+    }
 }
@@ -0,0 +1,46 @@
+package com.customer.service.section17.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records {@code application.first.request.time}, the time from JVM start until the
+ * first request completed. Unlike {@code application.ready.time} it includes the lazy
+ * work the first request pays for, such as opening database connections.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!recorded.get() && recorded.compareAndSet(false, true)) {
+                long millis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                TimeGauge.builder("application.first.request.time", () -> millis, TimeUnit.MILLISECONDS)
+                        .description("Time from JVM start until the first request completed")
+                        .register(meterRegistry);
+                log.info("First request ({} {}) completed {} ms after JVM start",
+                        request.getMethod(), request.getRequestURI(), millis);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.customer.service.section17.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts SQL statements prepared by Hibernate for the current request. The count is
+ * only tracked between {@link #start()} and {@link #stop()}, which
+ * {@link RequestSqlMetricsFilter} calls around each request; work the request hands
+ * to other threads through {@link #propagate} adds to the same count. Statements the
+ * micro-batcher runs on behalf of several requests at once are not attributed.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = COUNT.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    /**
+     * Wraps {@code task} so the statements it runs count towards the request of the
+     * thread calling this method, for work handed to another thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        AtomicInteger count = COUNT.get();
+        if (count == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = COUNT.get();
+            COUNT.set(count);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    COUNT.remove();
+                } else {
+                    COUNT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Executor that counts each task's statements towards the request submitting it.
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> executor.execute(propagate(task));
+    }
+
+    static AtomicInteger start() {
+        AtomicInteger count = new AtomicInteger();
+        COUNT.set(count);
+        return count;
+    }
+
+    static void stop() {
+        COUNT.remove();
+    }
+}
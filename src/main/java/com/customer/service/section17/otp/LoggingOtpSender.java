@@ -0,0 +1,15 @@
+package com.customer.service.section17.otp;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Development stand-in used until a real {@link OtpSender} bean is defined.
+ */
+@Slf4j
+public class LoggingOtpSender implements OtpSender {
+
+    @Override
+    public void send(long clientId, String otp) {
+        log.debug("OTP for client {}: {}", clientId, otp);
+    }
+}
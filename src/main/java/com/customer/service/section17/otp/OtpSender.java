@@ -0,0 +1,8 @@
+package com.customer.service.section17.otp;
+
+/**
+ * Delivers an OTP to the client, e.g. by SMS or email.
+ */
+public interface OtpSender {
+    void send(long clientId, String otp);
+}
@@ -0,0 +1,153 @@
+package com.customer.service.section17.otp;
+
+import com.customer.service.section17.config.OtpProperties;
+import com.customer.service.section17.enums.OtpCheck;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * OTPs waiting to be verified, held only in memory. Each entry expires at a fixed
+ * instant through Caffeine's timer wheel, so failed attempts never extend its life,
+ * and every check and resend is an atomic per-key update that never reaches MySQL.
+ * Issued OTPs are handed to the {@link OtpSender} as soon as they become verifiable.
+ */
+@Component
+public class PendingOtpStore implements MeterBinder {
+
+    private final Cache<Long, PendingOtp> pending;
+    private final OtpProperties properties;
+    private final OtpSender otpSender;
+    private final Ticker ticker;
+
+    @Autowired
+    public PendingOtpStore(OtpProperties properties, OtpSender otpSender) {
+        this(properties, otpSender, Ticker.systemTicker());
+    }
+
+    PendingOtpStore(OtpProperties properties, OtpSender otpSender, Ticker ticker) {
+        this.properties = properties;
+        this.otpSender = otpSender;
+        this.ticker = ticker;
+        this.pending = Caffeine.newBuilder()
+                .maximumSize(properties.maxPending())
+                .expireAfter(new Expiry<Long, PendingOtp>() {
+                    @Override
+                    public long expireAfterCreate(Long clientId, PendingOtp otp, long currentTime) {
+                        return Math.max(0, otp.expiresAtNanos() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long clientId, PendingOtp otp, long currentTime, long currentDuration) {
+                        return Math.max(0, otp.expiresAtNanos() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long clientId, PendingOtp otp, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(Scheduler.systemScheduler())
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Makes {@code otp} verifiable for {@code clientId} and sends it; inside a transaction
+     * only once it commits, so a rolled back client is never sent a code.
+     */
+    public void issue(long clientId, String otp) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    issueNow(clientId, otp);
+                }
+            });
+        } else {
+            issueNow(clientId, otp);
+        }
+    }
+
+    private void issueNow(long clientId, String otp) {
+        pending.put(clientId, PendingOtp.issue(otp, ticker.read(), properties));
+        otpSender.send(clientId, otp);
+    }
+
+    /**
+     * Checks {@code otp} and consumes it on success. After {@code maxAttempts} wrong
+     * guesses the entry stays locked until it expires or is replaced by a resend.
+     */
+    public OtpCheck verify(long clientId, String otp) {
+        OtpCheck[] check = {OtpCheck.EXPIRED};
+        pending.asMap().computeIfPresent(clientId, (id, entry) -> {
+            if (entry.attempts() >= properties.maxAttempts()) {
+                check[0] = OtpCheck.LOCKED;
+                return entry;
+            }
+            if (MessageDigest.isEqual(entry.otp().getBytes(StandardCharsets.UTF_8),
+                    otp.getBytes(StandardCharsets.UTF_8))) {
+                check[0] = OtpCheck.VERIFIED;
+                return null;
+            }
+            check[0] = OtpCheck.INVALID;
+            return entry.withFailedAttempt();
+        });
+        return check[0];
+    }
+
+    /**
+     * Replaces the pending OTP with a new one unless the last one was issued less than
+     * {@code resendCooldown} ago.
+     *
+     * @return the new OTP, or {@code null} while the cooldown is running
+     */
+    public String reissue(long clientId, Supplier<String> otpSupplier) {
+        String[] issued = {null};
+        long cooldownNanos = properties.resendCooldown().toNanos();
+        pending.asMap().compute(clientId, (id, entry) -> {
+            long now = ticker.read();
+            if (entry != null && now - entry.issuedAtNanos() < cooldownNanos) {
+                return entry;
+            }
+            issued[0] = otpSupplier.get();
+            return PendingOtp.issue(issued[0], now, properties);
+        });
+        return issued[0];
+    }
+
+    public long size() {
+        return pending.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("client.otp.pending", this, PendingOtpStore::size)
+                .description("Issued OTPs waiting to be verified")
+                .register(registry);
+    }
+
+    private record PendingOtp(String otp, int attempts, long issuedAtNanos, long expiresAtNanos) {
+
+        static PendingOtp issue(String otp, long now, OtpProperties properties) {
+            return new PendingOtp(otp, 0, now, now + properties.ttl().toNanos());
+        }
+
+        PendingOtp withFailedAttempt() {
+            return new PendingOtp(otp, attempts + 1, issuedAtNanos, expiresAtNanos);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.customer.service.section17.otp;
+
+import com.customer.service.section17.cache.ClientCache;
+import com.customer.service.section17.config.OtpProperties;
+import com.customer.service.section17.enums.ClientEventType;
+import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.service.ClientChangeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects successfully verified clients and writes {@code verified = true} for them in
+ * batches, one transaction per batch, together with their UPDATED change events. Ids stay
+ * pending until their batch commits, so a failed write is retried on the next flush.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedClientWriter implements MeterBinder {
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ClientRepository clientRepository;
+    private final ClientChangeService clientChangeService;
+    private final ClientCache clientCache;
+    private final TransactionTemplate transactionTemplate;
+    private final OtpProperties properties;
+
+    public void markVerified(long clientId) {
+        pending.add(clientId);
+    }
+
+    /**
+     * Whether {@code clientId} is verified but not yet written to the database.
+     */
+    public boolean isPending(long clientId) {
+        return pending.contains(clientId);
+    }
+
+    @Scheduled(fixedDelayString = "${client.otp.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        while (!pending.isEmpty()) {
+            List<Long> batch = pending.stream().limit(properties.flushBatchSize()).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+            } catch (RuntimeException e) {
+                log.warn("Writing {} verified clients failed, will retry: {}", batch.size(), e.getMessage());
+                return;
+            }
+            batch.forEach(pending::remove);
+        }
+    }
+
+    private void write(List<Long> clientIds) {
+        clientRepository.markVerifiedByClientIds(clientIds, LocalDateTime.now());
+        List<ClientResponse> responses = clientRepository.findAllById(clientIds)
+                .stream()
+                .map(ClientMapper::modelToResponseMapper)
+                .toList();
+        clientChangeService.recordAll(ClientEventType.UPDATED, responses);
+        clientCache.invalidateAll(clientIds);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("client.otp.verified.pending", pending, Set::size)
+                .description("Verified clients waiting to be written")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,17 @@
+package com.customer.service.section17.outbox;
+
+import com.customer.service.section17.response.ClientChangeEventResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination for relayed change events. A batch is published after its numbering has
+ * committed and retried until {@link #publish} returns, so a batch that failed part way
+ * may arrive twice. One still pending when the instance stops is not re-sent, but stays
+ * readable from the change feed, which pages on the committed numbering.
+ */
+public interface ChangeEventSink {
+
+    void publish(List<ClientChangeEventResponse> events) throws IOException;
+}
@@ -0,0 +1,106 @@
+package com.customer.service.section17.outbox;
+
+import com.customer.service.section17.config.OutboxProperties;
+import com.customer.service.section17.entity.ClientChangeEvent;
+import com.customer.service.section17.mapper.ClientChangeMapper;
+import com.customer.service.section17.repository.ClientChangeEventRepository;
+import com.customer.service.section17.response.ClientChangeEventResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Moves committed outbox rows to the configured {@link ChangeEventSink} in batches,
+ * numbering them with a gap-free {@code publishedSequence} as it goes.
+ *
+ * <p>Insert sequences are allocated in blocks per instance, so two committed changes of
+ * one client can carry them in reverse commit order. A batch therefore takes every
+ * pending event of the clients it touches and orders each client's events by the
+ * client version they recorded, which does follow commit order.
+ *
+ * <p>A batch is handed to the sink only once its numbering has committed, so a relay
+ * whose transaction fails publishes nothing. A batch the sink rejects is retried
+ * before the next one is claimed. Numbering is {@code max + 1}, so exactly one
+ * instance may run the relay; it is off unless {@code client.outbox.relay-enabled} is set.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "client.outbox.relay-enabled", havingValue = "true")
+public class ClientChangeRelay {
+
+    private final ClientChangeEventRepository changeEventRepository;
+    private final ChangeEventSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private List<ClientChangeEventResponse> committed = List.of();
+
+    @Scheduled(fixedDelayString = "${client.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        try {
+            List<ClientChangeEventResponse> batch;
+            do {
+                if (committed.isEmpty()) {
+                    committed = transactionTemplate.execute(status -> claimBatch());
+                }
+                batch = committed;
+                sink.publish(batch);
+                committed = List.of();
+            } while (batch.size() >= properties.relayBatchSize());
+        } catch (IOException e) {
+            log.warn("Change event sink failed, will retry {} events: {}", committed.size(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Change event relay failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private List<ClientChangeEventResponse> claimBatch() {
+        List<ClientChangeEvent> first = changeEventRepository.findByPublishedSequenceIsNullOrderBySequenceAsc(
+                Limit.of(properties.relayBatchSize()));
+        if (first.isEmpty()) {
+            return List.of();
+        }
+        List<ClientChangeEvent> events = inClientVersionOrder(changeEventRepository
+                .findByPublishedSequenceIsNullAndClientIdIn(
+                        first.stream().map(ClientChangeEvent::getClientId).collect(Collectors.toSet())));
+        long next = changeEventRepository.findMaxPublishedSequence() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        for (ClientChangeEvent event : events) {
+            event.setPublishedSequence(next++);
+            event.setPublishedDate(now);
+        }
+        return events.stream()
+                .map(ClientChangeMapper::eventToResponseMapper)
+                .toList();
+    }
+
+    /**
+     * Keeps the events in insert-sequence order, except that the slots held by one client
+     * are filled with that client's events in version order.
+     */
+    static List<ClientChangeEvent> inClientVersionOrder(List<ClientChangeEvent> events) {
+        List<ClientChangeEvent> bySequence = events.stream()
+                .sorted(Comparator.comparing(ClientChangeEvent::getSequence))
+                .toList();
+        Map<Long, Iterator<ClientChangeEvent>> byVersion = new HashMap<>();
+        bySequence.stream()
+                .collect(Collectors.groupingBy(ClientChangeEvent::getClientId))
+                .forEach((clientId, clientEvents) -> byVersion.put(clientId, clientEvents.stream()
+                        .sorted(Comparator.comparing(ClientChangeEvent::getClientVersion,
+                                        Comparator.nullsFirst(Comparator.naturalOrder()))
+                                .thenComparing(ClientChangeEvent::getSequence))
+                        .iterator()));
+        return bySequence.stream()
+                .map(event -> byVersion.get(event.getClientId()).next())
+                .toList();
+    }
+}
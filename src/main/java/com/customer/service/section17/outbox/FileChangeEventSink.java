@@ -0,0 +1,35 @@
+package com.customer.service.section17.outbox;
+
+import com.customer.service.section17.response.ClientChangeEventResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each batch to an NDJSON file, one event per line.
+ */
+public class FileChangeEventSink implements ChangeEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileChangeEventSink(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<ClientChangeEventResponse> events) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ClientChangeEventResponse event : events) {
+                out.write(objectMapper.writeValueAsBytes(event));
+                out.write('\n');
+            }
+        }
+    }
+}
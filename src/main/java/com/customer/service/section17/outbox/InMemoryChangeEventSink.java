@@ -0,0 +1,34 @@
+package com.customer.service.section17.outbox;
+
+import com.customer.service.section17.response.ClientChangeEventResponse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recent {@code capacity} events in memory; intended for tests and local runs.
+ */
+public class InMemoryChangeEventSink implements ChangeEventSink {
+
+    private final Deque<ClientChangeEventResponse> events = new ArrayDeque<>();
+    private final int capacity;
+
+    public InMemoryChangeEventSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<ClientChangeEventResponse> batch) {
+        for (ClientChangeEventResponse event : batch) {
+            if (events.size() == capacity) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    public synchronized List<ClientChangeEventResponse> snapshot() {
+        return List.copyOf(events);
+    }
+}
@@ -0,0 +1,182 @@
+package com.customer.service.section17.ratelimit;
+
+import com.customer.service.section17.config.RateLimitProperties;
+import com.customer.service.section17.response.APIClientResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.customer.service.section17.constant.CustomerConstant.RATE_LIMIT_EXCEEDED;
+import static com.customer.service.section17.constant.CustomerConstant.SERVER_OVERLOADED;
+
+/**
+ * Rejects requests up front instead of letting them queue on the JDBC pool. Reads and
+ * writes each have a token bucket and an adaptive concurrency limit; callers that send
+ * the configured key header also get their own bucket. Over the rate a request gets
+ * 429, over the concurrency limit 503, both with {@code Retry-After}. Batch calls count
+ * against the concurrency limit but are slow by nature, so their latency does not
+ * shrink it.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Lane read;
+    private final Lane write;
+    private final Cache<String, TokenBucket> callerBuckets;
+    private final Counter callerRejections;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.read = new Lane("read", properties.read(), meterRegistry);
+        this.write = new Lane("write", properties.write(), meterRegistry);
+        this.callerBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxCallers())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.callerRejections = rejections(meterRegistry, "caller", "rate");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return properties.excludedPaths().contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String caller = request.getHeader(properties.callerHeader());
+        if (caller != null && properties.callerRate() > 0) {
+            long wait = callerBuckets.get(caller, key -> new TokenBucket(properties.callerRate(), properties.callerBurst()))
+                    .tryAcquire();
+            if (wait > 0) {
+                callerRejections.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, RATE_LIMIT_EXCEEDED, wait);
+                return;
+            }
+        }
+
+        String method = request.getMethod();
+        Lane lane = HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? read : write;
+        long wait = lane.bucket.tryAcquire();
+        if (wait > 0) {
+            lane.rateRejections.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, RATE_LIMIT_EXCEEDED, wait);
+            return;
+        }
+        if (!lane.limiter.tryAcquire()) {
+            lane.concurrencyRejections.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, SERVER_OVERLOADED, TimeUnit.SECONDS.toNanos(1));
+            return;
+        }
+        boolean sampled = !properties.unsampledPaths().contains(request.getRequestURI());
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(lane.limiter, sampled, start));
+            } else {
+                release(lane.limiter, sampled, start);
+            }
+        }
+    }
+
+    private static void release(AimdConcurrencyLimiter limiter, boolean sampled, long start) {
+        if (sampled) {
+            limiter.release(System.nanoTime() - start);
+        } else {
+            limiter.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message, long waitNanos)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), APIClientResponse.builder()
+                .errorCode(status.value())
+                .errorMessage(message)
+                .build());
+    }
+
+    private static Counter rejections(MeterRegistry registry, String lane, String reason) {
+        return Counter.builder("client.ratelimit.rejected")
+                .description("Requests rejected by the rate limiter")
+                .tag("lane", lane)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * Holds an asynchronous request's permit until the response is complete, so work
+     * handed to another thread still counts against the concurrency limit.
+     */
+    private record ReleaseOnComplete(AimdConcurrencyLimiter limiter, boolean sampled, long start) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(limiter, sampled, start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    private static class Lane {
+        private final TokenBucket bucket;
+        private final AimdConcurrencyLimiter limiter;
+        private final Counter rateRejections;
+        private final Counter concurrencyRejections;
+
+        Lane(String name, RateLimitProperties.Limits limits, MeterRegistry registry) {
+            this.bucket = new TokenBucket(limits.rate(), limits.burst());
+            this.limiter = new AimdConcurrencyLimiter(limits.initialConcurrency(), limits.minConcurrency(),
+                    limits.maxConcurrency(), limits.latencyThreshold().toNanos());
+            this.rateRejections = rejections(registry, name, "rate");
+            this.concurrencyRejections = rejections(registry, name, "concurrency");
+            Gauge.builder("client.ratelimit.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("lane", name)
+                    .register(registry);
+            Gauge.builder("client.ratelimit.inflight", limiter, AimdConcurrencyLimiter::getInFlight)
+                    .description("Requests currently admitted")
+                    .tag("lane", name)
+                    .register(registry);
+            Gauge.builder("client.ratelimit.rate", limits, RateLimitProperties.Limits::rate)
+                    .description("Configured permits per second")
+                    .tag("lane", name)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.customer.service.section17.repository;
+
+import com.customer.service.section17.entity.ClientArchiveModel;
+import com.customer.service.section17.response.ClientVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Moves between {@code client_details} and {@code client_details_archive} are
+ * INSERT ... SELECT statements, so rows never pass through the application. Each copy
+ * must share a transaction with the matching delete from the source table.
+ */
+@Repository
+@Transactional(readOnly = true)
+public interface ClientArchiveRepository extends JpaRepository<ClientArchiveModel, Long> {
+
+    String COLUMNS = "id, client_name, client_password, client_age, client_mobile_number, client_email_address, "
+            + "address, city, state, country, status, otp, verified, created_by";
+
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "insert into client_details_archive (" + COLUMNS + ", updated_by, version, archived_at) "
+            + "select " + COLUMNS + ", updated_by, version, :archivedAt from client_details where id in :clientIds",
+            nativeQuery = true)
+    int copyFromClients(@Param("clientIds") Collection<Long> clientIds,
+                        @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Copies an archived client back, stamping it as updated now so the archival job
+     * does not move it straight back out.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "insert into client_details (" + COLUMNS + ", updated_by, version) "
+            + "select " + COLUMNS + ", :updatedDate, version + 1 from client_details_archive where id = :clientId",
+            nativeQuery = true)
+    int copyToClients(@Param("clientId") Long clientId, @Param("updatedDate") LocalDateTime updatedDate);
+
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("delete from ClientArchiveModel a where a.clientId = :clientId")
+    int deleteByClientId(@Param("clientId") Long clientId);
+
+    @Query("select new com.customer.service.section17.response.ClientVersion(a.clientId, a.version, a.updatedDate) "
+            + "from ClientArchiveModel a where a.clientId = :clientId")
+    Optional<ClientVersion> findVersionByClientId(@Param("clientId") Long clientId);
+}
@@ -0,0 +1,24 @@
+package com.customer.service.section17.repository;
+
+import com.customer.service.section17.entity.ClientChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ClientChangeEventRepository extends JpaRepository<ClientChangeEvent, Long> {
+
+    List<ClientChangeEvent> findByPublishedSequenceIsNullOrderBySequenceAsc(Limit limit);
+
+    List<ClientChangeEvent> findByPublishedSequenceIsNullAndClientIdIn(Collection<Long> clientIds);
+
+    List<ClientChangeEvent> findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(Long publishedSequence,
+                                                                                         Limit limit);
+
+    @Query("select coalesce(max(e.publishedSequence), 0) from ClientChangeEvent e")
+    long findMaxPublishedSequence();
+}
@@ -1,9 +1,117 @@
 package com.customer.service.section17.repository;
 
 import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.response.ClientVersion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface ClientRepository extends JpaRepository<ClientModel, Long> {
+@Transactional(readOnly = true)
+public interface ClientRepository extends JpaRepository<ClientModel, Long>, ClientSearchRepository {
+
+    /**
+     * Keyset page: the next {@code limit} clients whose id is greater than the given cursor.
+     */
+    List<ClientModel> findByClientIdGreaterThanOrderByClientIdAsc(Long clientId, Limit limit);
+
+    /**
+     * Forward-only cursor over the whole table. Must be consumed inside a transaction
+     * and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from ClientModel c order by c.clientId")
+    Stream<ClientModel> streamAllOrderByClientId();
+
+    /**
+     * Reads only the columns needed to validate a conditional GET.
+     */
+    @Query("select new com.customer.service.section17.response.ClientVersion(c.clientId, c.version, c.updatedDate) "
+            + "from ClientModel c where c.clientId = :clientId")
+    Optional<ClientVersion> findVersionByClientId(@Param("clientId") Long clientId);
+
+    @Query("select new com.customer.service.section17.response.ClientVersion(c.clientId, c.version, c.updatedDate) "
+            + "from ClientModel c where c.clientId in :clientIds")
+    List<ClientVersion> findVersionsByClientIds(@Param("clientIds") Collection<Long> clientIds);
+
+    Optional<ClientModel> findByClientEmailAddress(String clientEmailAddress);
+
+    Optional<ClientModel> findByClientMobileNumber(String clientMobileNumber);
+
+    @Query("select c.clientEmailAddress from ClientModel c where c.clientEmailAddress in :emailAddresses")
+    List<String> findExistingEmailAddresses(@Param("emailAddresses") Collection<String> emailAddresses);
+
+    @Query("select c.clientMobileNumber from ClientModel c where c.clientMobileNumber in :mobileNumbers")
+    List<String> findExistingMobileNumbers(@Param("mobileNumbers") Collection<String> mobileNumbers);
+
+    @Query("select c.clientId from ClientModel c where c.clientId in :clientIds")
+    List<Long> findExistingClientIds(@Param("clientIds") Collection<Long> clientIds);
+
+    /**
+     * Single-statement status change. Bulk JPQL bypasses {@code @UpdateTimestamp} and
+     * {@code @Version}, so both are maintained here explicitly.
+     *
+     * @return number of matched rows, {@code 0} when the client does not exist
+     */
+    @Modifying
+    @Transactional
+    @Query("update ClientModel c set c.status = :status, c.updatedDate = :updatedDate, c.version = c.version + 1 "
+            + "where c.clientId = :clientId")
+    int updateStatusByClientId(@Param("clientId") Long clientId,
+                               @Param("status") CustomerStatus status,
+                               @Param("updatedDate") LocalDateTime updatedDate);
+
+    @Modifying
+    @Transactional
+    @Query("update ClientModel c set c.status = :status, c.updatedDate = :updatedDate, c.version = c.version + 1 "
+            + "where c.clientId in :clientIds")
+    int updateStatusByClientIds(@Param("clientIds") Collection<Long> clientIds,
+                                @Param("status") CustomerStatus status,
+                                @Param("updatedDate") LocalDateTime updatedDate);
+
+    @Modifying
+    @Transactional
+    @Query("update ClientModel c set c.verified = true, c.updatedDate = :updatedDate, c.version = c.version + 1 "
+            + "where c.clientId in :clientIds and c.verified = false")
+    int markVerifiedByClientIds(@Param("clientIds") Collection<Long> clientIds,
+                                @Param("updatedDate") LocalDateTime updatedDate);
+
+    /**
+     * Locks the next batch of clients that have been INACTIVE since before the cutoff,
+     * so a concurrent change cannot slip in between their copy and delete.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("select c.clientId from ClientModel c where c.status = :status and c.updatedDate < :cutoff "
+            + "order by c.clientId")
+    List<Long> lockIdsForArchival(@Param("status") CustomerStatus status,
+                                  @Param("cutoff") LocalDateTime cutoff,
+                                  Limit limit);
+
+    @Modifying
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("delete from ClientModel c where c.clientId in :clientIds")
+    int deleteByClientIds(@Param("clientIds") Collection<Long> clientIds);
 }
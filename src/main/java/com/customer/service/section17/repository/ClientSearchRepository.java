@@ -0,0 +1,16 @@
+package com.customer.service.section17.repository;
+
+import com.customer.service.section17.request.ClientSearchCursor;
+import com.customer.service.section17.request.ClientSearchRequest;
+import com.customer.service.section17.response.ClientSearchRow;
+
+import java.util.List;
+
+public interface ClientSearchRepository {
+
+    /**
+     * Returns up to {@code limit} matching rows that sort after {@code cursor}
+     * (or from the start when it is {@code null}).
+     */
+    List<ClientSearchRow> search(ClientSearchRequest request, ClientSearchCursor cursor, int limit);
+}
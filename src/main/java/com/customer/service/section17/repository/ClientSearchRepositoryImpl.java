@@ -0,0 +1,76 @@
+package com.customer.service.section17.repository;
+
+import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.enums.ClientSortField;
+import com.customer.service.section17.request.ClientSearchCursor;
+import com.customer.service.section17.request.ClientSearchRequest;
+import com.customer.service.section17.response.ClientSearchRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Criteria-based search that selects straight into {@link ClientSearchRow} and pages
+ * with a keyset predicate on (sort column, id) instead of OFFSET.
+ */
+@RequiredArgsConstructor
+public class ClientSearchRepositoryImpl implements ClientSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ClientSearchRow> search(ClientSearchRequest request, ClientSearchCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ClientSearchRow> query = cb.createQuery(ClientSearchRow.class);
+        Root<ClientModel> root = query.from(ClientModel.class);
+        Path<Object> address = root.get("clientAddress");
+
+        query.select(cb.construct(ClientSearchRow.class,
+                root.get("clientId"),
+                root.get("clientName"),
+                root.get("clientAge"),
+                root.get("clientMobileNumber"),
+                root.get("clientEmailAddress"),
+                address.get("address"),
+                address.get("city"),
+                address.get("state"),
+                address.get("country"),
+                root.get("status"),
+                root.get("verified"),
+                root.get("createDate"),
+                root.get("updatedDate"),
+                root.get("version")));
+
+        boolean ascending = request.getDirection() != Sort.Direction.DESC;
+        boolean byCreateDate = request.getSortBy() == ClientSortField.CREATE_DATE;
+        Path<Long> id = root.get("clientId");
+        Path<LocalDateTime> createDate = root.get("createDate");
+
+        Predicate where = ClientSpecifications.matching(request).toPredicate(root, query, cb);
+        if (cursor != null) {
+            Predicate afterId = ascending ? cb.greaterThan(id, cursor.clientId()) : cb.lessThan(id, cursor.clientId());
+            Predicate after = afterId;
+            if (byCreateDate) {
+                Predicate afterDate = ascending
+                        ? cb.greaterThan(createDate, cursor.createDate())
+                        : cb.lessThan(createDate, cursor.createDate());
+                after = cb.or(afterDate, cb.and(cb.equal(createDate, cursor.createDate()), afterId));
+            }
+            where = cb.and(where, after);
+        }
+        query.where(where);
+
+        if (byCreateDate) {
+            query.orderBy(ascending ? cb.asc(createDate) : cb.desc(createDate), ascending ? cb.asc(id) : cb.desc(id));
+        } else {
+            query.orderBy(ascending ? cb.asc(id) : cb.desc(id));
+        }
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
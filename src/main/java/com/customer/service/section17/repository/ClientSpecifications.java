@@ -0,0 +1,58 @@
+package com.customer.service.section17.repository;
+
+import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.request.ClientSearchRequest;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates {@link ClientSearchRequest} filters into a {@link Specification}.
+ * Only the filters that are set become predicates.
+ */
+public class ClientSpecifications {
+
+    public static Specification<ClientModel> matching(ClientSearchRequest request) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<Object> address = root.get("clientAddress");
+            if (request.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), request.getStatus()));
+            }
+            if (request.getVerified() != null) {
+                predicates.add(cb.equal(root.get("verified"), request.getVerified()));
+            }
+            if (request.getMinAge() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("clientAge"), request.getMinAge()));
+            }
+            if (request.getMaxAge() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("clientAge"), request.getMaxAge()));
+            }
+            if (request.getCountry() != null) {
+                predicates.add(cb.equal(address.get("country"), request.getCountry()));
+            }
+            if (request.getState() != null) {
+                predicates.add(cb.equal(address.get("state"), request.getState()));
+            }
+            if (request.getCity() != null) {
+                predicates.add(cb.equal(address.get("city"), request.getCity()));
+            }
+            if (request.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createDate"), request.getCreatedFrom()));
+            }
+            if (request.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createDate"), request.getCreatedTo()));
+            }
+            if (request.getUpdatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("updatedDate"), request.getUpdatedFrom()));
+            }
+            if (request.getUpdatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("updatedDate"), request.getUpdatedTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
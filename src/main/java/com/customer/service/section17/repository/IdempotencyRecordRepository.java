@@ -0,0 +1,27 @@
+package com.customer.service.section17.repository;
+
+import com.customer.service.section17.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key and r.statusCode is null "
+            + "and r.createdDate < :cutoff")
+    int deleteStaleClaim(@Param("key") String key, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.statusCode is null and r.createdDate < :cutoff")
+    int deleteStaleClaims(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,39 @@
+package com.customer.service.section17.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * Partial update of a client. Fields left {@code null} are not changed, so the
+ * constraints here only apply to the values that are actually sent.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+@Builder(toBuilder = true)
+@ToString
+@EqualsAndHashCode
+public class ClientPatchRequest {
+
+    @JsonProperty("clientName")
+    @Pattern(regexp = ".*\\S.*", message = "Please provide username")
+    private String clientName;
+
+    @JsonProperty("clientAge")
+    @Min(value = 1, message = "Age must be greater than 0")
+    @Max(value = 120, message = "Age must be less than or equal to 120")
+    private Integer clientAge;
+
+    @JsonProperty("clientMobileNumber")
+    @Size(min = 10, max = 10,message = "Please provide the valid mobile number..")
+    private String clientMobileNumber;
+
+    @JsonProperty("clientEmailAddress")
+    @Email(message = "Please provide valid email address..")
+    private String clientEmailAddress;
+
+    @JsonProperty("clientAddress")
+    private ClientAddress clientAddress;
+}
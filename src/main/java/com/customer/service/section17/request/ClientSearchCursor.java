@@ -0,0 +1,59 @@
+package com.customer.service.section17.request;
+
+import com.customer.service.section17.enums.ClientSortField;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position after the last row of a search page: the sort field and direction the page was
+ * read with, the sort key of that row, and its id as a tie-breaker. Encoded as an opaque
+ * URL-safe string for clients.
+ *
+ * @param sortBy     sort field of the search that produced the cursor
+ * @param direction  sort direction of the search that produced the cursor
+ * @param createDate create date of the last row, {@code null} when sorting by id
+ * @param clientId   id of the last row
+ */
+public record ClientSearchCursor(ClientSortField sortBy, Sort.Direction direction, LocalDateTime createDate,
+                                 Long clientId) {
+
+    public ClientSearchCursor {
+        Objects.requireNonNull(sortBy, "sortBy");
+        Objects.requireNonNull(direction, "direction");
+        Objects.requireNonNull(clientId, "clientId");
+        if ((sortBy == ClientSortField.CREATE_DATE) != (createDate != null)) {
+            throw new IllegalArgumentException("A create date is required exactly when sorting by " + ClientSortField.CREATE_DATE);
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy + "|" + direction + "|" + (createDate == null ? "" : createDate.toString()) + "|" + clientId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     *                                  of a search sorted by {@code sortBy} in {@code direction}
+     */
+    public static ClientSearchCursor decode(String cursor, ClientSortField sortBy, Sort.Direction direction) {
+        ClientSearchCursor decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            decoded = new ClientSearchCursor(ClientSortField.valueOf(parts[0]),
+                    Sort.Direction.valueOf(parts[1]),
+                    parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        if (decoded.sortBy() != sortBy || decoded.direction() != direction) {
+            throw new IllegalArgumentException("Cursor of a search sorted by " + decoded.sortBy() + " " + decoded.direction()
+                    + " used with " + sortBy + " " + direction);
+        }
+        return decoded;
+    }
+}
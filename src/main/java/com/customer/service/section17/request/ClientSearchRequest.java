@@ -0,0 +1,52 @@
+package com.customer.service.section17.request;
+
+import com.customer.service.section17.enums.ClientSortField;
+import com.customer.service.section17.enums.CustomerStatus;
+import lombok.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Search filters bound from query parameters. Every filter is optional and they are
+ * combined with AND; {@code cursor} is the {@code nextCursor} of the previous page.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@ToString
+@EqualsAndHashCode
+public class ClientSearchRequest {
+
+    private CustomerStatus status;
+    private Boolean verified;
+    private Integer minAge;
+    private Integer maxAge;
+    private String city;
+    private String state;
+    private String country;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+
+    @Builder.Default
+    private ClientSortField sortBy = ClientSortField.ID;
+
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    private String cursor;
+    private Integer size;
+}
@@ -0,0 +1,25 @@
+package com.customer.service.section17.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+@Builder(toBuilder = true)
+@ToString
+@EqualsAndHashCode
+public class ClientUpdateRequest {
+
+    @JsonProperty("clientId")
+    @NotNull(message = "Please provide clientId")
+    private Long clientId;
+
+    @JsonProperty("client")
+    @NotNull(message = "Please provide the client details")
+    @Valid
+    private ClientRequest client;
+}
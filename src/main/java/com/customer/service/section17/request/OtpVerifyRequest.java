@@ -0,0 +1,19 @@
+package com.customer.service.section17.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor(force = true)
+@Builder(toBuilder = true)
+@ToString
+@EqualsAndHashCode
+public class OtpVerifyRequest {
+
+    @JsonProperty("otp")
+    @NotBlank(message = "Please provide the otp")
+    private String otp;
+}
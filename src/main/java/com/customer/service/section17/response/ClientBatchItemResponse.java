@@ -0,0 +1,22 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+/**
+ * Outcome of a single item in a batch request. {@code index} is the position of the
+ * item in the submitted list so callers can match results back to their input.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientBatchItemResponse {
+    private int index;
+    private Long clientId;
+    private int errorCode;
+    private String errorMessage;
+    private Object data;
+}
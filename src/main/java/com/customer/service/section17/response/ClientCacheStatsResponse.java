@@ -0,0 +1,19 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientCacheStatsResponse {
+    private long estimatedSize;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long loadCount;
+    private long evictionCount;
+}
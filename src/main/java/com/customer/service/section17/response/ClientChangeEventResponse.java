@@ -0,0 +1,22 @@
+package com.customer.service.section17.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientChangeEventResponse {
+    private Long sequence;
+    private Long clientId;
+    private String eventType;
+    @JsonRawValue
+    private String payload;
+    private LocalDateTime createdDate;
+}
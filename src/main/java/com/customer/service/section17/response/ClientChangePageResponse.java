@@ -0,0 +1,21 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * One page of the change feed. Pass {@code nextSinceSeq} back as {@code sinceSeq}
+ * to continue; it stays unchanged when there is nothing new yet.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientChangePageResponse {
+    private List<ClientChangeEventResponse> events;
+    private Long nextSinceSeq;
+}
@@ -0,0 +1,20 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A row that was not imported. {@code line} is the 1-based line number in the source file.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientImportReject {
+    private long line;
+    private List<String> reasons;
+}
@@ -0,0 +1,28 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Summary of a bulk import. {@code rejects} lists at most the configured number of
+ * rejected rows, {@code rejectedRows} is always the full count. {@code failure} is set
+ * when the import stopped early; rows imported before that point stay committed.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientImportReport {
+    private String format;
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private List<ClientImportReject> rejects;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private String failure;
+}
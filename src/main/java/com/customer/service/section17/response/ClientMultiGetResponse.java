@@ -0,0 +1,20 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Clients found for a multi-get, in request order, and the requested ids that do not exist.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientMultiGetResponse {
+    private List<ClientResponse> clients;
+    private List<Long> missingIds;
+}
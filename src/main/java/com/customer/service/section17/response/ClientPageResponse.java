@@ -0,0 +1,21 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * One keyset page of clients. {@code nextAfterId} is the cursor for the following
+ * page and is {@code null} once the last page has been returned.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientPageResponse {
+    private List<ClientResponse> clients;
+    private Long nextAfterId;
+}
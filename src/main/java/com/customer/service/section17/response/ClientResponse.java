@@ -24,4 +24,5 @@ public class ClientResponse {
     private boolean verified;
     private LocalDateTime createDate;
     private LocalDateTime updatedDate;
+    private Long version;
 }
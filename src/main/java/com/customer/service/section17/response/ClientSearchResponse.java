@@ -0,0 +1,20 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * One page of search results. {@code nextCursor} is {@code null} on the last page.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientSearchResponse {
+    private List<ClientResponse> clients;
+    private String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.customer.service.section17.response;
+
+import com.customer.service.section17.enums.CustomerStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Column projection used by client search. It deliberately has no password or OTP
+ * so those columns are never selected.
+ */
+public record ClientSearchRow(Long clientId,
+                              String clientName,
+                              Integer clientAge,
+                              String clientMobileNumber,
+                              String clientEmailAddress,
+                              String address,
+                              String city,
+                              String state,
+                              String country,
+                              CustomerStatus status,
+                              boolean verified,
+                              LocalDateTime createDate,
+                              LocalDateTime updatedDate,
+                              Long version) {
+}
@@ -0,0 +1,15 @@
+package com.customer.service.section17.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+public class ClientVerificationResponse {
+    private Long clientId;
+    private boolean verified;
+}
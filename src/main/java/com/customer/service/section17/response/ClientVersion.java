@@ -0,0 +1,13 @@
+package com.customer.service.section17.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * The validators of a client resource: its optimistic-lock version and last update time.
+ *
+ * @param clientId    the client id
+ * @param version     the row version, incremented on every write
+ * @param updatedDate the last update timestamp
+ */
+public record ClientVersion(Long clientId, Long version, LocalDateTime updatedDate) {
+}
@@ -0,0 +1,72 @@
+package com.customer.service.section17.routing;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override that sends read-only transactions to the primary as well, used
+ * to give a caller read-your-writes consistency while replicas may still lag.
+ */
+public final class PrimaryRouting {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryRouting() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Runs {@code work} pinned to the primary and restores the previous state afterwards.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        return call(true, work);
+    }
+
+    /**
+     * Wraps {@code task} so it runs with the pin of the thread calling this method,
+     * for work handed to another thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        boolean pinned = isPinned();
+        return () -> call(pinned, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Executor that runs each task with the pin of the thread submitting it.
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> executor.execute(propagate(task));
+    }
+
+    private static <T> T call(boolean pinned, Supplier<T> work) {
+        Boolean previous = PINNED.get();
+        if (pinned) {
+            PINNED.set(Boolean.TRUE);
+        } else {
+            PINNED.remove();
+        }
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+}
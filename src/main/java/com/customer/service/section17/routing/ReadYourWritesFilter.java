@@ -0,0 +1,89 @@
+package com.customer.service.section17.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Pins a request to the primary when it writes, or when the caller wrote within the
+ * sticky window, so a client always reads its own writes even if replicas lag.
+ *
+ * <p>The time of the last write travels with the caller rather than living in this
+ * instance: every write answers with an {@value #LAST_WRITE_HEADER} header and a
+ * {@value #LAST_WRITE_COOKIE} cookie, and a read carrying either one is pinned while it
+ * is recent, whichever instance receives it.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+    public static final String LAST_WRITE_COOKIE = "last-write";
+
+    private final Duration stickyWindow;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration stickyWindow, Clock clock) {
+        this.stickyWindow = stickyWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        String method = request.getMethod();
+        boolean write = !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method);
+        if (write) {
+            String lastWrite = Long.toString(now);
+            response.setHeader(LAST_WRITE_HEADER, lastWrite);
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(LAST_WRITE_COOKIE, lastWrite)
+                    .path("/api")
+                    .maxAge(stickyWindow)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+        if (write || wroteRecently(request, now)) {
+            PrimaryRouting.pin();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryRouting.clear();
+        }
+    }
+
+    /**
+     * A timestamp further in the future than the window is ignored, so a forged or
+     * badly skewed value cannot pin a caller indefinitely.
+     */
+    private boolean wroteRecently(HttpServletRequest request, long now) {
+        String lastWrite = request.getHeader(LAST_WRITE_HEADER);
+        if (lastWrite == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                    lastWrite = cookie.getValue();
+                }
+            }
+        }
+        if (lastWrite == null) {
+            return false;
+        }
+        try {
+            long age = now - Long.parseLong(lastWrite.trim());
+            return age < stickyWindow.toMillis() && age > -stickyWindow.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.customer.service.section17.service;
+
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.response.ClientVersion;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ClientArchiveService {
+
+    /**
+     * Moves up to {@code batchSize} clients that have been INACTIVE since before
+     * {@code cutoff} into the archive in one transaction and returns how many moved.
+     */
+    int archiveBatch(LocalDateTime cutoff, int batchSize);
+
+    Optional<ClientResponse> findArchived(long clientId);
+
+    List<ClientResponse> findArchived(Collection<Long> clientIds);
+
+    Optional<ClientVersion> findArchivedVersion(long clientId);
+
+    ResponseEntity<APIClientResponse> restoreClient(long clientId);
+}
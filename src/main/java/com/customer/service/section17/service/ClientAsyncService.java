@@ -0,0 +1,22 @@
+package com.customer.service.section17.service;
+
+import com.customer.service.section17.request.ClientSearchRequest;
+import com.customer.service.section17.response.APIClientResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read operations of {@link ClientService} that run on a bounded worker pool instead of
+ * the request thread. A full pool fails the call with a
+ * {@link java.util.concurrent.RejectedExecutionException}.
+ */
+public interface ClientAsyncService {
+    CompletableFuture<ResponseEntity<APIClientResponse>> getAllClient(Long afterId, Integer size);
+    CompletableFuture<ResponseEntity<APIClientResponse>> searchClients(ClientSearchRequest request);
+    CompletableFuture<ResponseEntity<APIClientResponse>> getByClientId(long clientId);
+    CompletableFuture<ResponseEntity<APIClientResponse>> getByClientIds(List<Long> clientIds);
+    CompletableFuture<ResponseEntity<APIClientResponse>> getByEmailAddress(String emailAddress);
+    CompletableFuture<ResponseEntity<APIClientResponse>> getByMobileNumber(String mobileNumber);
+}
@@ -0,0 +1,15 @@
+package com.customer.service.section17.service;
+
+import com.customer.service.section17.enums.ClientEventType;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+
+public interface ClientChangeService {
+    void record(ClientEventType eventType, ClientResponse client);
+    void recordAll(ClientEventType eventType, Collection<ClientResponse> clients);
+    void recordDeactivated(Collection<Long> clientIds);
+    ResponseEntity<APIClientResponse> getChanges(Long sinceSeq, Integer size);
+}
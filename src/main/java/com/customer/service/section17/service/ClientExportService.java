@@ -0,0 +1,26 @@
+package com.customer.service.section17.service;
+
+import com.customer.service.section17.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface ClientExportService {
+
+    /**
+     * Returns the latest {@code updatedUntil} an export can use without missing rows.
+     * {@code updated_by} is set when a change is written, not when it commits, so a row
+     * stamped just before now may still become visible later. Such a row would fall below
+     * the watermark and be skipped by every later incremental export.
+     */
+    LocalDateTime settledUntil();
+
+    /**
+     * Writes every client with {@code updatedAfter < updatedDate <= updatedUntil} as gzip
+     * compressed {@code format}; a {@code null} {@code updatedAfter} exports all rows up to
+     * {@code updatedUntil}. Closes {@code output} and returns the number of rows written.
+     */
+    long exportClients(OutputStream output, ExportFormat format,
+                       LocalDateTime updatedAfter, LocalDateTime updatedUntil) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.customer.service.section17.service;
+
+import com.customer.service.section17.enums.ImportFormat;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientImportReport;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ClientImportService {
+    ResponseEntity<APIClientResponse> importClients(InputStream input, String contentType) throws IOException;
+    ClientImportReport runImport(InputStream input, ImportFormat format) throws IOException;
+}
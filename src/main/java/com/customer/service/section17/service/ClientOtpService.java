@@ -0,0 +1,10 @@
+package com.customer.service.section17.service;
+
+import com.customer.service.section17.request.OtpVerifyRequest;
+import com.customer.service.section17.response.APIClientResponse;
+import org.springframework.http.ResponseEntity;
+
+public interface ClientOtpService {
+    ResponseEntity<APIClientResponse> verifyOtp(long clientId, OtpVerifyRequest request);
+    ResponseEntity<APIClientResponse> resendOtp(long clientId);
+}
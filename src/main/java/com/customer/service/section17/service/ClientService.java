@@ -1,13 +1,36 @@
 package com.customer.service.section17.service;
 
+import com.customer.service.section17.request.ClientPatchRequest;
 import com.customer.service.section17.request.ClientRequest;
+import com.customer.service.section17.request.ClientSearchRequest;
+import com.customer.service.section17.request.ClientUpdateRequest;
 import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.response.ClientVersion;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 public interface ClientService {
     ResponseEntity<APIClientResponse> createClient(ClientRequest request);
-    ResponseEntity<APIClientResponse> getAllClient();
+    ResponseEntity<APIClientResponse> getAllClient(Long afterId, Integer size);
+    void streamAllClients(OutputStream outputStream) throws IOException;
+    ResponseEntity<APIClientResponse> searchClients(ClientSearchRequest request);
     ResponseEntity<APIClientResponse> getByClientId(long clientId);
+    Optional<ClientVersion> getClientVersion(long clientId);
+    Map<Long, ClientResponse> findClientsByIds(Collection<Long> clientIds);
+    ResponseEntity<APIClientResponse> getByEmailAddress(String emailAddress);
+    ResponseEntity<APIClientResponse> getByMobileNumber(String mobileNumber);
     ResponseEntity<APIClientResponse> deleteByClientId(long clientId);
-    ResponseEntity<APIClientResponse> updateClientDetails(long clientId, ClientRequest request);
+    ResponseEntity<APIClientResponse> updateClientDetails(long clientId, ClientRequest request, List<String> ifMatch);
+    ResponseEntity<APIClientResponse> patchClientDetails(long clientId, ClientPatchRequest request, List<String> ifMatch);
+    ResponseEntity<APIClientResponse> createClients(List<ClientRequest> requests);
+    ResponseEntity<APIClientResponse> updateClients(List<ClientUpdateRequest> requests);
+    ResponseEntity<APIClientResponse> deactivateClients(List<Long> clientIds);
+    ResponseEntity<APIClientResponse> getCacheStats();
 }
@@ -0,0 +1,21 @@
+package com.customer.service.section17.service;
+
+import com.customer.service.section17.response.APIClientResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * Runs {@code action} once per {@code idempotencyKey} within {@code scope} and replays
+     * its response to every retry; without a key the action simply runs.
+     *
+     * @param request the request body, used to reject a key reused for a different request
+     */
+    ResponseEntity<APIClientResponse> execute(String idempotencyKey, String scope, Object request,
+                                              Supplier<ResponseEntity<APIClientResponse>> action);
+}
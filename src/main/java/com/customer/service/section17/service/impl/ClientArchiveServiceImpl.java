@@ -0,0 +1,118 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.cache.ClientCache;
+import com.customer.service.section17.cache.ClientPageCache;
+import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.enums.ClientEventType;
+import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.exceptions.CustomerAlreadyExistsException;
+import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.repository.ClientArchiveRepository;
+import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.response.ClientVersion;
+import com.customer.service.section17.service.ClientArchiveService;
+import com.customer.service.section17.service.ClientChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.customer.service.section17.constant.CustomerConstant.*;
+
+/**
+ * Archival keeps the client's identity: ids, versions and timestamps are copied as they
+ * are, so an archived client reads the same through {@code getById} as before it moved.
+ * Archiving is not a change to the client and records no event; a restore records an
+ * UPDATED event because it bumps the version.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientArchiveServiceImpl implements ClientArchiveService {
+
+    private final ClientRepository clientRepository;
+    private final ClientArchiveRepository clientArchiveRepository;
+    private final ClientCache clientCache;
+    private final ClientPageCache clientPageCache;
+    private final ClientChangeService clientChangeService;
+
+    @Override
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<Long> clientIds = clientRepository.lockIdsForArchival(CustomerStatus.INACTIVE, cutoff, Limit.of(batchSize));
+        if (clientIds.isEmpty()) {
+            return 0;
+        }
+        clientArchiveRepository.copyFromClients(clientIds, LocalDateTime.now());
+        clientRepository.deleteByClientIds(clientIds);
+        clientCache.invalidateAll(clientIds);
+        clientPageCache.invalidateAll();
+        return clientIds.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ClientResponse> findArchived(long clientId) {
+        return clientArchiveRepository.findById(clientId).map(ClientMapper::archiveToResponseMapper);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientResponse> findArchived(Collection<Long> clientIds) {
+        return clientArchiveRepository.findAllById(clientIds)
+                .stream()
+                .map(ClientMapper::archiveToResponseMapper)
+                .toList();
+    }
+
+    @Override
+    public Optional<ClientVersion> findArchivedVersion(long clientId) {
+        return clientArchiveRepository.findVersionByClientId(clientId);
+    }
+
+    /**
+     * Copies the client back and deletes its archive row in one transaction. The restored
+     * client keeps its status; a clash with a newer client's email or mobile number is
+     * reported as a conflict and leaves the archive untouched.
+     */
+    @Override
+    @Transactional
+    public ResponseEntity<APIClientResponse> restoreClient(long clientId) {
+        int copied;
+        try {
+            copied = clientArchiveRepository.copyToClients(clientId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomerAlreadyExistsException(CUSTOMER_ALREADY_EXISTS);
+        }
+        if (copied == 0) {
+            return ResponseEntity.ok(
+                    APIClientResponse.builder()
+                            .errorCode(CUSTOMER_NOT_EXISTS_CODE)
+                            .errorMessage(CUSTOMER_NOT_ARCHIVED)
+                            .data(List.of())
+                            .build()
+            );
+        }
+        clientArchiveRepository.deleteByClientId(clientId);
+        clientCache.invalidate(clientId);
+        ClientModel model = clientRepository.findById(clientId).orElseThrow();
+        ClientResponse response = ClientMapper.modelToResponseMapper(model);
+        clientChangeService.record(ClientEventType.UPDATED, response);
+
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(SUCCESS_CODE)
+                        .errorMessage(SUCCESSFULLY_RESTORED)
+                        .data(response)
+                        .build()
+        );
+    }
+}
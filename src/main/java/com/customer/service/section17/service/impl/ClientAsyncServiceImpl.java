@@ -0,0 +1,157 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.async.MicroBatcher;
+import com.customer.service.section17.config.AsyncProperties;
+import com.customer.service.section17.metrics.SqlStatementCounter;
+import com.customer.service.section17.request.ClientSearchRequest;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientMultiGetResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.routing.PrimaryRouting;
+import com.customer.service.section17.service.ClientAsyncService;
+import com.customer.service.section17.service.ClientService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.customer.service.section17.constant.CustomerConstant.*;
+
+/**
+ * Runs {@link ClientService} reads on a fixed pool sized below the connection pool, so
+ * request threads are released while JDBC work waits for a connection. Single-id
+ * lookups are coalesced by a {@link MicroBatcher} into one IN query per batch window.
+ * Work keeps the submitting request's {@link PrimaryRouting} pin; pinned single-id
+ * lookups skip the batcher, whose shared batches are read wherever the dispatcher routes them.
+ */
+@Service
+public class ClientAsyncServiceImpl implements ClientAsyncService {
+
+    private final ClientService clientService;
+    private final ThreadPoolExecutor executor;
+    private final Executor callerExecutor;
+    private final MicroBatcher<Long, ClientResponse> clientBatcher;
+
+    public ClientAsyncServiceImpl(ClientService clientService, AsyncProperties properties, MeterRegistry meterRegistry) {
+        this.clientService = clientService;
+        this.executor = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                Thread.ofPlatform().name("client-async-", 0).daemon().factory());
+        this.callerExecutor = SqlStatementCounter.propagating(PrimaryRouting.propagating(executor));
+        new ExecutorServiceMetrics(executor, "clientAsync", Tags.empty()).bindTo(meterRegistry);
+        DistributionSummary batchSizes = DistributionSummary.builder("client.async.batch.size")
+                .description("Ids resolved per coalesced lookup")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.clientBatcher = new MicroBatcher<>("client-id-batcher", clientIds -> {
+            batchSizes.record(clientIds.size());
+            return clientService.findClientsByIds(clientIds);
+        }, executor, properties.batchWindow(), properties.maxBatchSize());
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getAllClient(Long afterId, Integer size) {
+        return CompletableFuture.supplyAsync(() -> clientService.getAllClient(afterId, size), callerExecutor);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<APIClientResponse>> searchClients(ClientSearchRequest request) {
+        return CompletableFuture.supplyAsync(() -> clientService.searchClients(request), callerExecutor);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getByClientId(long clientId) {
+        CompletableFuture<ClientResponse> lookup = PrimaryRouting.isPinned()
+                ? CompletableFuture.supplyAsync(() -> clientService.findClientsByIds(Set.of(clientId)).get(clientId),
+                        callerExecutor)
+                : clientBatcher.submit(clientId);
+        return lookup
+                .thenApply(client -> client == null
+                        ? ResponseEntity.ok(
+                                APIClientResponse.builder()
+                                        .errorCode(CUSTOMER_NOT_EXISTS_CODE)
+                                        .errorMessage(CUSTOMER_NOT_EXISTS)
+                                        .data(List.of())
+                                        .build())
+                        : ResponseEntity.ok(
+                                APIClientResponse.builder()
+                                        .errorCode(SUCCESS_CODE)
+                                        .errorMessage(SUCCESSFULLY_RETRIEVED)
+                                        .data(client)
+                                        .build()));
+    }
+
+    /**
+     * Resolves every requested id with one IN query; ids that exist in neither the
+     * cache, the client table nor the archive are listed in {@code missingIds}.
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getByClientIds(List<Long> clientIds) {
+        Set<Long> ids = clientIds == null ? Set.of() : new LinkedHashSet<>(clientIds);
+        ids.remove(null);
+        if (ids.isEmpty() || ids.size() > MAX_PAGE_SIZE) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(
+                    APIClientResponse.builder()
+                            .errorCode(HttpStatus.BAD_REQUEST.value())
+                            .errorMessage(INVALID_ID_COUNT)
+                            .data(List.of())
+                            .build()));
+        }
+        return CompletableFuture.supplyAsync(() -> clientService.findClientsByIds(ids), callerExecutor)
+                .thenApply(found -> ResponseEntity.ok(
+                        APIClientResponse.builder()
+                                .errorCode(SUCCESS_CODE)
+                                .errorMessage(SUCCESSFULLY_RETRIEVED)
+                                .data(multiGetResponse(ids, found))
+                                .build()));
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getByEmailAddress(String emailAddress) {
+        return CompletableFuture.supplyAsync(() -> clientService.getByEmailAddress(emailAddress), callerExecutor);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<APIClientResponse>> getByMobileNumber(String mobileNumber) {
+        return CompletableFuture.supplyAsync(() -> clientService.getByMobileNumber(mobileNumber), callerExecutor);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        clientBatcher.close();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static ClientMultiGetResponse multiGetResponse(Set<Long> ids, Map<Long, ClientResponse> found) {
+        List<ClientResponse> clients = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            ClientResponse client = found.get(id);
+            if (client != null) {
+                clients.add(client);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return ClientMultiGetResponse.builder()
+                .clients(clients)
+                .missingIds(missingIds)
+                .build();
+    }
+}
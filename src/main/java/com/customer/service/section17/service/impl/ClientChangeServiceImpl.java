@@ -0,0 +1,111 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.cache.ClientPageCache;
+import com.customer.service.section17.entity.ClientChangeEvent;
+import com.customer.service.section17.enums.ClientEventType;
+import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.mapper.ClientChangeMapper;
+import com.customer.service.section17.repository.ClientChangeEventRepository;
+import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientChangeEventResponse;
+import com.customer.service.section17.response.ClientChangePageResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.response.ClientVersion;
+import com.customer.service.section17.service.ClientChangeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.customer.service.section17.constant.CustomerConstant.*;
+import static com.customer.service.section17.mapper.ClientMapper.statusResponse;
+
+/**
+ * Writes change events to the outbox. Recording requires an existing transaction so
+ * an event is committed if and only if the mutation it describes is. Every mutation
+ * records an event, which makes this the point where cached list pages are dropped.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientChangeServiceImpl implements ClientChangeService {
+
+    private final ClientChangeEventRepository changeEventRepository;
+    private final ClientRepository clientRepository;
+    private final ObjectMapper objectMapper;
+    private final ClientPageCache clientPageCache;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ClientEventType eventType, ClientResponse client) {
+        changeEventRepository.save(event(eventType, client.getClientId(), client.getVersion(), client));
+        clientPageCache.invalidateAll();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(ClientEventType eventType, Collection<ClientResponse> clients) {
+        changeEventRepository.saveAll(clients.stream()
+                .map(client -> event(eventType, client.getClientId(), client.getVersion(), client))
+                .toList());
+        clientPageCache.invalidateAll();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeactivated(Collection<Long> clientIds) {
+        Map<Long, Long> versions = clientRepository.findVersionsByClientIds(clientIds)
+                .stream()
+                .collect(Collectors.toMap(ClientVersion::clientId, ClientVersion::version));
+        changeEventRepository.saveAll(clientIds.stream()
+                .map(clientId -> event(ClientEventType.DEACTIVATED, clientId, versions.get(clientId),
+                        statusResponse(clientId, CustomerStatus.INACTIVE)))
+                .toList());
+        clientPageCache.invalidateAll();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<APIClientResponse> getChanges(Long sinceSeq, Integer size) {
+        long since = sinceSeq == null ? 0L : sinceSeq;
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<ClientChangeEventResponse> events = changeEventRepository
+                .findByPublishedSequenceGreaterThanOrderByPublishedSequenceAsc(since, Limit.of(pageSize))
+                .stream()
+                .map(ClientChangeMapper::eventToResponseMapper)
+                .toList();
+
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(SUCCESS_CODE)
+                        .errorMessage(SUCCESSFULLY_RETRIEVED)
+                        .data(ClientChangePageResponse.builder()
+                                .events(events)
+                                .nextSinceSeq(events.isEmpty() ? since : events.get(events.size() - 1).getSequence())
+                                .build())
+                        .build()
+        );
+    }
+
+    private ClientChangeEvent event(ClientEventType eventType, Long clientId, Long clientVersion, Object payload) {
+        try {
+            return ClientChangeEvent.builder()
+                    .clientId(clientId)
+                    .clientVersion(clientVersion)
+                    .eventType(eventType)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize change event for client " + clientId, e);
+        }
+    }
+}
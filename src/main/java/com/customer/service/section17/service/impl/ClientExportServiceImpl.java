@@ -0,0 +1,77 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.config.ExportProperties;
+import com.customer.service.section17.enums.ExportFormat;
+import com.customer.service.section17.export.ClientExportWriter;
+import com.customer.service.section17.service.ClientExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams {@code client_details} over a forward-only, read-only JDBC cursor and writes
+ * each row as soon as it is read, so heap use does not depend on the row count. Full
+ * exports walk the primary key, incremental ones the {@code updated_by} index.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientExportServiceImpl implements ClientExportService {
+
+    private static final String FULL_EXPORT = "SELECT " + ClientExportWriter.COLUMNS
+            + " FROM client_details WHERE updated_by <= ? ORDER BY id";
+    private static final String INCREMENTAL_EXPORT = "SELECT " + ClientExportWriter.COLUMNS
+            + " FROM client_details WHERE updated_by > ? AND updated_by <= ? ORDER BY updated_by, id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+
+    @Override
+    public LocalDateTime settledUntil() {
+        return LocalDateTime.now().minus(properties.watermarkLag());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportClients(OutputStream output, ExportFormat format,
+                              LocalDateTime updatedAfter, LocalDateTime updatedUntil) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        try (ClientExportWriter writer = ClientExportWriter.of(format,
+                new GZIPOutputStream(output, properties.bufferSize()), objectMapper.getFactory())) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        updatedAfter == null ? FULL_EXPORT : INCREMENTAL_EXPORT,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(properties.fetchSize());
+                int index = 1;
+                if (updatedAfter != null) {
+                    statement.setTimestamp(index++, Timestamp.valueOf(updatedAfter));
+                }
+                statement.setTimestamp(index, Timestamp.valueOf(updatedUntil));
+                return statement;
+            }, (ResultSet row) -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows.incrementAndGet();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows.get();
+    }
+}
@@ -0,0 +1,335 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.config.ImportProperties;
+import com.customer.service.section17.credential.OtpPool;
+import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.enums.ClientEventType;
+import com.customer.service.section17.enums.ImportFormat;
+import com.customer.service.section17.importer.ClientRecordParser;
+import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.metrics.SqlStatementCounter;
+import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.request.ClientRequest;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientImportReject;
+import com.customer.service.section17.response.ClientImportReport;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.service.ClientChangeService;
+import com.customer.service.section17.service.ClientImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static com.customer.service.section17.constant.CustomerConstant.*;
+import static com.customer.service.section17.mapper.ClientMapper.requestToModel;
+
+/**
+ * Streams an import file through three stages connected by bounded queues: the calling
+ * thread reads lines, a pool of workers parses and validates them, and a single writer
+ * checks duplicates and inserts chunk by chunk, one transaction per chunk. A full queue
+ * blocks the stage in front of it, so memory stays bounded whatever the file size.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClientImportServiceImpl implements ClientImportService {
+
+    private static final ImportRow END = new ImportRow(-1, null, null);
+
+    private final ClientRepository clientRepository;
+    private final ClientChangeService clientChangeService;
+    private final OtpPool otpPool;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ImportProperties properties;
+
+    @Override
+    public ResponseEntity<APIClientResponse> importClients(InputStream input, String contentType) throws IOException {
+        ImportFormat format;
+        try {
+            format = ImportFormat.fromContentType(contentType);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(
+                    APIClientResponse.builder()
+                            .errorCode(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value())
+                            .errorMessage(UNSUPPORTED_IMPORT_FORMAT)
+                            .data(List.of())
+                            .build()
+            );
+        }
+        ClientImportReport report = runImport(input, format);
+        boolean failed = report.getFailure() != null;
+        return ResponseEntity.status(failed ? HttpStatus.INTERNAL_SERVER_ERROR : HttpStatus.OK).body(
+                APIClientResponse.builder()
+                        .errorCode(failed ? HttpStatus.INTERNAL_SERVER_ERROR.value() : SUCCESS_CODE)
+                        .errorMessage(failed ? IMPORT_ABORTED : IMPORT_COMPLETED)
+                        .data(report)
+                        .build()
+        );
+    }
+
+    @Override
+    public ClientImportReport runImport(InputStream input, ImportFormat format) throws IOException {
+        int workers = properties.workers() > 0 ? properties.workers() : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<ImportRow> lines = new ArrayBlockingQueue<>(properties.queueCapacity());
+        BlockingQueue<ImportRow> validated = new ArrayBlockingQueue<>(properties.queueCapacity());
+        ImportProgress progress = new ImportProgress();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16);
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 1,
+                Thread.ofPlatform().name("client-import-", 0).factory());
+        try {
+            long lineNumber = 0;
+            ClientRecordParser parser;
+            if (format == ImportFormat.CSV) {
+                lineNumber++;
+                parser = ClientRecordParser.of(format, reader.readLine(), objectMapper);
+            } else {
+                parser = ClientRecordParser.of(format, null, objectMapper);
+            }
+            List<Future<?>> stages = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                stages.add(executor.submit(() -> validateRows(parser, lines, validated, progress)));
+            }
+            Future<?> writer = executor.submit(SqlStatementCounter.propagate(() -> writeRows(validated, progress)));
+            try {
+                String line;
+                while (progress.failure.get() == null && (line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (!line.isBlank()) {
+                        progress.total.incrementAndGet();
+                        lines.put(new ImportRow(lineNumber, null, line));
+                    }
+                }
+            } finally {
+                for (int i = 0; i < workers; i++) {
+                    lines.put(END);
+                }
+            }
+            for (Future<?> stage : stages) {
+                stage.get();
+            }
+            validated.put(END);
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.fail(e);
+        } catch (ExecutionException e) {
+            progress.fail(e.getCause());
+        } catch (IllegalArgumentException e) {
+            progress.fail(e);
+        } finally {
+            executor.shutdownNow();
+        }
+        ClientImportReport report = progress.report(format);
+        log.info("Client import finished: {} rows read, {} imported, {} rejected in {} ms ({} rows/s){}",
+                report.getTotalRows(), report.getImportedRows(), report.getRejectedRows(),
+                report.getElapsedMillis(), report.getRowsPerSecond(),
+                report.getFailure() == null ? "" : ", aborted: " + report.getFailure());
+        return report;
+    }
+
+    /**
+     * Aborts the import on an unexpected failure but, like the writer, keeps draining so
+     * the reader never blocks on a full queue.
+     */
+    private void validateRows(ClientRecordParser parser, BlockingQueue<ImportRow> lines,
+                              BlockingQueue<ImportRow> validated, ImportProgress progress) {
+        try {
+            ImportRow row;
+            while ((row = lines.take()) != END) {
+                if (progress.failure.get() != null) {
+                    continue;
+                }
+                try {
+                    validateRow(parser, row, validated, progress);
+                } catch (RuntimeException e) {
+                    progress.fail(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void validateRow(ClientRecordParser parser, ImportRow row, BlockingQueue<ImportRow> validated,
+                             ImportProgress progress) throws InterruptedException {
+        ClientRequest request;
+        try {
+            request = parser.parse(row.text());
+            if (request == null) {
+                throw new IllegalArgumentException("record is null");
+            }
+        } catch (IllegalArgumentException e) {
+            progress.reject(row.line(), List.of(MALFORMED_RECORD + ": " + e.getMessage()));
+            return;
+        }
+        List<String> violations = validator.validate(request)
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .toList();
+        if (violations.isEmpty()) {
+            validated.put(new ImportRow(row.line(), request, null));
+        } else {
+            progress.reject(row.line(), violations);
+        }
+    }
+
+    /**
+     * Keeps draining after a failure so upstream stages never block on a full queue.
+     */
+    private void writeRows(BlockingQueue<ImportRow> validated, ImportProgress progress) {
+        List<ImportRow> chunk = new ArrayList<>(properties.chunkSize());
+        try {
+            ImportRow row;
+            while ((row = validated.take()) != END) {
+                if (progress.failure.get() != null) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == properties.chunkSize()) {
+                    writeChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty() && progress.failure.get() == null) {
+                writeChunk(chunk, progress);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeChunk(List<ImportRow> rows, ImportProgress progress) {
+        try {
+            Set<String> takenEmailAddresses = new HashSet<>(clientRepository.findExistingEmailAddresses(
+                    rows.stream().map(row -> row.request().getClientEmailAddress()).collect(Collectors.toSet())));
+            Set<String> takenMobileNumbers = new HashSet<>(clientRepository.findExistingMobileNumbers(
+                    rows.stream().map(row -> row.request().getClientMobileNumber()).collect(Collectors.toSet())));
+            List<ImportRow> accepted = new ArrayList<>(rows.size());
+            for (ImportRow row : rows) {
+                ClientRequest request = row.request();
+                if (takenEmailAddresses.contains(request.getClientEmailAddress())
+                        || takenMobileNumbers.contains(request.getClientMobileNumber())) {
+                    progress.reject(row.line(), List.of(CUSTOMER_ALREADY_EXISTS));
+                    continue;
+                }
+                takenEmailAddresses.add(request.getClientEmailAddress());
+                takenMobileNumbers.add(request.getClientMobileNumber());
+                accepted.add(row);
+            }
+            try {
+                persist(accepted);
+                progress.imported(accepted.size(), properties.progressInterval());
+            } catch (DataIntegrityViolationException e) {
+                // a concurrent create took one of the keys after the check; retry row by row
+                for (ImportRow row : accepted) {
+                    try {
+                        persist(List.of(row));
+                        progress.imported(1, properties.progressInterval());
+                    } catch (DataIntegrityViolationException conflict) {
+                        progress.reject(row.line(), List.of(CUSTOMER_ALREADY_EXISTS));
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            progress.fail(e);
+        }
+    }
+
+    /**
+     * Inserts through the repository so a unique-key conflict surfaces as a translated
+     * {@link DataIntegrityViolationException} rather than a raw Hibernate exception.
+     */
+    private void persist(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<ClientModel> models = rows.stream()
+                    .map(row -> requestToModel(row.request(), otpPool.take()))
+                    .toList();
+            clientRepository.saveAllAndFlush(models);
+            List<ClientResponse> responses = models.stream()
+                    .map(ClientMapper::modelToResponseMapper)
+                    .toList();
+            clientChangeService.recordAll(ClientEventType.CREATED, responses);
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    /**
+     * @param text raw line, set until the row is parsed
+     */
+    private record ImportRow(long line, ClientRequest request, String text) {
+    }
+
+    private class ImportProgress {
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final Queue<ClientImportReject> rejects = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        void reject(long line, List<String> reasons) {
+            if (rejected.incrementAndGet() <= properties.maxReportedRejects()) {
+                rejects.add(ClientImportReject.builder().line(line).reasons(reasons).build());
+            }
+        }
+
+        void imported(int rows, long logInterval) {
+            long before = imported.getAndAdd(rows);
+            if (before / logInterval != (before + rows) / logInterval) {
+                log.info("Client import progress: {} rows imported, {} rejected, {} rows/s",
+                        before + rows, rejected.get(), rowsPerSecond(before + rows));
+            }
+        }
+
+        void fail(Throwable cause) {
+            failure.compareAndSet(null, cause);
+        }
+
+        long rowsPerSecond(long rows) {
+            long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1);
+            return rows * 1_000_000_000L / elapsedNanos;
+        }
+
+        ClientImportReport report(ImportFormat format) {
+            Throwable cause = failure.get();
+            List<ClientImportReject> sorted = new ArrayList<>(rejects);
+            sorted.sort(Comparator.comparingLong(ClientImportReject::getLine));
+            return ClientImportReport.builder()
+                    .format(format.name())
+                    .totalRows(total.get())
+                    .importedRows(imported.get())
+                    .rejectedRows(rejected.get())
+                    .rejects(sorted)
+                    .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                    .rowsPerSecond(rowsPerSecond(imported.get() + rejected.get()))
+                    .failure(cause == null ? null : String.valueOf(cause.getMessage()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.cache.ClientCache;
+import com.customer.service.section17.config.OtpProperties;
+import com.customer.service.section17.credential.OtpPool;
+import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.otp.OtpSender;
+import com.customer.service.section17.otp.PendingOtpStore;
+import com.customer.service.section17.otp.VerifiedClientWriter;
+import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.request.OtpVerifyRequest;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.response.ClientVerificationResponse;
+import com.customer.service.section17.service.ClientOtpService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.customer.service.section17.constant.CustomerConstant.*;
+
+/**
+ * Verification is answered from {@link PendingOtpStore} alone; the database is only read
+ * (through {@link ClientCache}) to explain a missing OTP or before a resend, and only
+ * written by {@link VerifiedClientWriter} in batches.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientOtpServiceImpl implements ClientOtpService {
+
+    private final PendingOtpStore otpStore;
+    private final VerifiedClientWriter verifiedClientWriter;
+    private final OtpSender otpSender;
+    private final OtpPool otpPool;
+    private final ClientCache clientCache;
+    private final ClientRepository clientRepository;
+    private final OtpProperties properties;
+
+    @Override
+    public ResponseEntity<APIClientResponse> verifyOtp(long clientId, OtpVerifyRequest request) {
+        return switch (otpStore.verify(clientId, request.getOtp())) {
+            case VERIFIED -> {
+                verifiedClientWriter.markVerified(clientId);
+                yield verified(clientId, OTP_VERIFIED);
+            }
+            case INVALID -> failure(HttpStatus.BAD_REQUEST, OTP_INVALID);
+            case LOCKED -> failure(HttpStatus.TOO_MANY_REQUESTS, OTP_ATTEMPTS_EXCEEDED);
+            case EXPIRED -> {
+                if (verifiedClientWriter.isPending(clientId)) {
+                    yield verified(clientId, OTP_ALREADY_VERIFIED);
+                }
+                Optional<ClientResponse> client = findClient(clientId);
+                if (client.isEmpty()) {
+                    yield notFound();
+                }
+                yield client.get().isVerified()
+                        ? verified(clientId, OTP_ALREADY_VERIFIED)
+                        : failure(HttpStatus.GONE, OTP_EXPIRED);
+            }
+        };
+    }
+
+    @Override
+    public ResponseEntity<APIClientResponse> resendOtp(long clientId) {
+        if (verifiedClientWriter.isPending(clientId)) {
+            return verified(clientId, OTP_ALREADY_VERIFIED);
+        }
+        Optional<ClientResponse> client = findClient(clientId);
+        if (client.isEmpty()) {
+            return notFound();
+        }
+        if (client.get().isVerified()) {
+            return verified(clientId, OTP_ALREADY_VERIFIED);
+        }
+        String otp = otpStore.reissue(clientId, otpPool::take);
+        if (otp == null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(properties.resendCooldown().toSeconds()))
+                    .body(APIClientResponse.builder()
+                            .errorCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                            .errorMessage(OTP_RESEND_TOO_SOON)
+                            .data(List.of())
+                            .build());
+        }
+        otpSender.send(clientId, otp);
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(SUCCESS_CODE)
+                        .errorMessage(OTP_RESENT)
+                        .data(ClientVerificationResponse.builder()
+                                .clientId(clientId)
+                                .verified(false)
+                                .build())
+                        .build()
+        );
+    }
+
+    private Optional<ClientResponse> findClient(long clientId) {
+        return clientCache.get(clientId,
+                id -> clientRepository.findById(id).map(ClientMapper::modelToResponseMapper));
+    }
+
+    private static ResponseEntity<APIClientResponse> verified(long clientId, String message) {
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(SUCCESS_CODE)
+                        .errorMessage(message)
+                        .data(ClientVerificationResponse.builder()
+                                .clientId(clientId)
+                                .verified(true)
+                                .build())
+                        .build()
+        );
+    }
+
+    private static ResponseEntity<APIClientResponse> failure(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(
+                APIClientResponse.builder()
+                        .errorCode(status.value())
+                        .errorMessage(message)
+                        .data(List.of())
+                        .build()
+        );
+    }
+
+    private static ResponseEntity<APIClientResponse> notFound() {
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(CUSTOMER_NOT_EXISTS_CODE)
+                        .errorMessage(CUSTOMER_NOT_EXISTS)
+                        .data(List.of())
+                        .build()
+        );
+    }
+}
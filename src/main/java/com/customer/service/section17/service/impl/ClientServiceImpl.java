@@ -1,136 +1,690 @@
 package com.customer.service.section17.service.impl;
 
+import com.customer.service.section17.cache.ClientCache;
+import com.customer.service.section17.credential.OtpPool;
 import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.enums.ClientEventType;
+import com.customer.service.section17.enums.ClientSortField;
+import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.exceptions.CustomerAlreadyExistsException;
 import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.otp.PendingOtpStore;
 import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.request.ClientPatchRequest;
 import com.customer.service.section17.request.ClientRequest;
+import com.customer.service.section17.request.ClientSearchCursor;
+import com.customer.service.section17.request.ClientSearchRequest;
+import com.customer.service.section17.request.ClientUpdateRequest;
 import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.response.ClientBatchItemResponse;
+import com.customer.service.section17.response.ClientPageResponse;
 import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.response.ClientSearchResponse;
+import com.customer.service.section17.response.ClientSearchRow;
+import com.customer.service.section17.response.ClientVersion;
+import com.customer.service.section17.service.ClientArchiveService;
+import com.customer.service.section17.service.ClientChangeService;
 import com.customer.service.section17.service.ClientService;
+import com.customer.service.section17.util.ClientETags;
+import com.customer.service.section17.writebehind.ClientUpdateBuffer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.customer.service.section17.constant.CustomerConstant.*;
 import static com.customer.service.section17.mapper.ClientMapper.modelToResponseMapper;
+import static com.customer.service.section17.mapper.ClientMapper.patchModel;
 import static com.customer.service.section17.mapper.ClientMapper.requestToModel;
+import static com.customer.service.section17.mapper.ClientMapper.statusResponse;
+import static com.customer.service.section17.mapper.ClientMapper.updateModel;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "client.service", histogram = true)
 public class ClientServiceImpl implements ClientService {
 
     private final ClientRepository clientRepository;
+    private final ClientCache clientCache;
+    private final OtpPool otpPool;
+    private final PendingOtpStore otpStore;
+    private final ClientChangeService clientChangeService;
+    private final ClientArchiveService clientArchiveService;
+    private final ClientUpdateBuffer clientUpdateBuffer;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @Override
+    @Transactional
     public ResponseEntity<APIClientResponse> createClient(ClientRequest request) {
-        ClientModel clientModel = clientRepository.save(requestToModel(request));
+        ClientModel clientModel = saveUnique(requestToModel(request, otpPool.take()));
+        otpStore.issue(clientModel.getClientId(), clientModel.getClientOtp());
+        ClientResponse response = modelToResponseMapper(clientModel);
+        clientChangeService.record(ClientEventType.CREATED, response);
         return ResponseEntity.ok(
                 APIClientResponse.builder()
                         .errorCode(SUCCESS_CODE)
                         .errorMessage(SUCCESSFULLY_STORED)
-                        .data(modelToResponseMapper(clientModel))
+                        .data(response)
                         .build()
         );
     }
 
     @Override
-    public ResponseEntity<APIClientResponse> getAllClient() {
-        List<ClientModel> clientDetails = clientRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<APIClientResponse> getAllClient(Long afterId, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<ClientModel> clientDetails = clientRepository.findByClientIdGreaterThanOrderByClientIdAsc(
+                afterId == null ? 0L : afterId, Limit.of(pageSize + 1));
         List<ClientResponse> clients = clientDetails
                 .stream()
+                .limit(pageSize)
                 .map(clientModel-> modelToResponseMapper(clientModel))
                 .toList();
+        Long nextAfterId = clientDetails.size() > pageSize
+                ? clients.get(clients.size() - 1).getClientId()
+                : null;
 
         return ResponseEntity.ok(
                 APIClientResponse.builder()
                         .errorCode(SUCCESS_CODE)
                         .errorMessage(SUCCESSFULLY_RETRIEVED)
-                        .data(clients)
+                        .data(ClientPageResponse.builder()
+                                .clients(clients)
+                                .nextAfterId(nextAfterId)
+                                .build())
                         .build()
         );
     }
 
     @Override
-    public ResponseEntity<APIClientResponse> getByClientId(long clientId) {
-        Optional<ClientModel> modelOptional = clientRepository.findById(clientId);
-
-        if (modelOptional.isEmpty()) {
-            return ResponseEntity.ok(
+    @Transactional(readOnly = true)
+    public ResponseEntity<APIClientResponse> searchClients(ClientSearchRequest request) {
+        ClientSortField sortBy = request.getSortBy() == null ? ClientSortField.ID : request.getSortBy();
+        Sort.Direction direction = request.getDirection() == Sort.Direction.DESC ? Sort.Direction.DESC : Sort.Direction.ASC;
+        ClientSearchCursor cursor;
+        try {
+            cursor = request.getCursor() == null ? null : ClientSearchCursor.decode(request.getCursor(), sortBy, direction);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
                     APIClientResponse.builder()
-                            .errorCode(CUSTOMER_NOT_EXISTS_CODE)
-                            .errorMessage(CUSTOMER_NOT_EXISTS)
+                            .errorCode(HttpStatus.BAD_REQUEST.value())
+                            .errorMessage(INVALID_CURSOR)
                             .data(List.of())
                             .build()
             );
         }
+        int pageSize = request.getSize() == null
+                ? DEFAULT_PAGE_SIZE
+                : Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
+        List<ClientSearchRow> rows = clientRepository.search(request, cursor, pageSize + 1);
+        List<ClientResponse> clients = rows
+                .stream()
+                .limit(pageSize)
+                .map(ClientMapper::rowToResponseMapper)
+                .toList();
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            ClientSearchRow last = rows.get(pageSize - 1);
+            nextCursor = new ClientSearchCursor(sortBy, direction,
+                    sortBy == ClientSortField.CREATE_DATE ? last.createDate() : null,
+                    last.clientId()).encode();
+        }
 
-        ClientModel model = modelOptional.get();
         return ResponseEntity.ok(
                 APIClientResponse.builder()
                         .errorCode(SUCCESS_CODE)
                         .errorMessage(SUCCESSFULLY_RETRIEVED)
-                        .data(modelToResponseMapper(model))
+                        .data(ClientSearchResponse.builder()
+                                .clients(clients)
+                                .nextCursor(nextCursor)
+                                .build())
                         .build()
         );
     }
 
+    /**
+     * Writes every client as newline-delimited JSON while the rows are read from a
+     * database cursor. Each entity is detached once written so the persistence context
+     * does not grow with the table.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllClients(OutputStream outputStream) throws IOException {
+        try (Stream<ClientModel> clientStream = clientRepository.streamAllOrderByClientId();
+             SequenceWriter writer = objectMapper.writerFor(ClientResponse.class)
+                     .withRootValueSeparator("\n")
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .writeValues(outputStream)) {
+            int written = 0;
+            Iterator<ClientModel> iterator = clientStream.iterator();
+            while (iterator.hasNext()) {
+                ClientModel clientModel = iterator.next();
+                writer.write(modelToResponseMapper(clientModel));
+                entityManager.detach(clientModel);
+                if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+    }
+
+    @Override
+    public ResponseEntity<APIClientResponse> getByClientId(long clientId) {
+        Optional<ClientResponse> responseOptional = clientCache.get(clientId,
+                id -> clientRepository.findById(id).map(ClientMapper::modelToResponseMapper)
+                        .or(() -> clientArchiveService.findArchived(id)));
+
+        if (responseOptional.isEmpty()) {
+            return notFound();
+        }
+
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(SUCCESS_CODE)
+                        .errorMessage(SUCCESSFULLY_RETRIEVED)
+                        .data(clientUpdateBuffer.overlay(responseOptional.get()))
+                        .build()
+        );
+    }
+
+    /**
+     * Version and last-modified time of a client, taken from the cache when present and
+     * otherwise from a two-column query, so conditional GETs never load the full row.
+     * Empty while a buffered update is pending, as its version is not known yet.
+     */
+    @Override
+    public Optional<ClientVersion> getClientVersion(long clientId) {
+        if (clientUpdateBuffer.isPending(clientId)) {
+            return Optional.empty();
+        }
+        Optional<ClientResponse> cached = clientCache.getIfPresent(clientId);
+        if (cached.isPresent()) {
+            ClientResponse response = cached.get();
+            return Optional.of(new ClientVersion(clientId, response.getVersion(), response.getUpdatedDate()));
+        }
+        return clientRepository.findVersionByClientId(clientId)
+                .or(() -> clientArchiveService.findArchivedVersion(clientId));
+    }
+
+    /**
+     * Resolves many ids with at most one IN query per table: cached clients first, then
+     * {@code client_details}, then the archive for ids still missing.
+     */
+    @Override
+    public Map<Long, ClientResponse> findClientsByIds(Collection<Long> clientIds) {
+        Map<Long, ClientResponse> clients = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long clientId : clientIds) {
+            clientCache.getIfPresent(clientId)
+                    .ifPresentOrElse(client -> clients.put(clientId, clientUpdateBuffer.overlay(client)),
+                            () -> misses.add(clientId));
+        }
+        if (!misses.isEmpty()) {
+            clientRepository.findAllById(misses)
+                    .forEach(model -> clients.put(model.getClientId(),
+                            clientUpdateBuffer.overlay(modelToResponseMapper(model))));
+            List<Long> notFound = misses.stream().filter(clientId -> !clients.containsKey(clientId)).toList();
+            if (!notFound.isEmpty()) {
+                clientArchiveService.findArchived(notFound)
+                        .forEach(client -> clients.put(client.getClientId(), client));
+            }
+        }
+        return clients;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<APIClientResponse> getByEmailAddress(String emailAddress) {
+        return clientRepository.findByClientEmailAddress(emailAddress)
+                .map(model -> ResponseEntity.ok(
+                        APIClientResponse.builder()
+                                .errorCode(SUCCESS_CODE)
+                                .errorMessage(SUCCESSFULLY_RETRIEVED)
+                                .data(modelToResponseMapper(model))
+                                .build()))
+                .orElseGet(ClientServiceImpl::notFound);
+    }
+
     @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<APIClientResponse> getByMobileNumber(String mobileNumber) {
+        return clientRepository.findByClientMobileNumber(mobileNumber)
+                .map(model -> ResponseEntity.ok(
+                        APIClientResponse.builder()
+                                .errorCode(SUCCESS_CODE)
+                                .errorMessage(SUCCESSFULLY_RETRIEVED)
+                                .data(modelToResponseMapper(model))
+                                .build()))
+                .orElseGet(ClientServiceImpl::notFound);
+    }
+
+    /**
+     * Soft delete as a single conditional UPDATE; the matched-row count tells whether
+     * the client exists, so no row is read first.
+     */
+    @Override
+    @Transactional
     public ResponseEntity<APIClientResponse> deleteByClientId(long clientId) {
+        clientUpdateBuffer.flushPending(List.of(clientId));
+        int updated = clientRepository.updateStatusByClientId(clientId, CustomerStatus.INACTIVE, LocalDateTime.now());
+
+        if (updated == 0) {
+            return notFound();
+        }
+        clientCache.invalidate(clientId);
+        clientChangeService.recordDeactivated(List.of(clientId));
+
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(SUCCESS_CODE)
+                        .errorMessage(SUCCESSFULLY_DELETED)
+                        .data(statusResponse(clientId, CustomerStatus.INACTIVE))
+                        .build()
+        );
+    }
+
+    /**
+     * With write-behind enabled, an update of an active client that keeps its email address
+     * and mobile number is buffered and answered at once; the rest, whose unique keys can
+     * only be checked by the database, are written inline as before. A conditional update
+     * is always written inline, as only the stored row carries the version it is checked
+     * against.
+     */
+    @Override
+    @Transactional
+    public ResponseEntity<APIClientResponse> updateClientDetails(long clientId, ClientRequest request, List<String> ifMatch) {
+        if (clientUpdateBuffer.isEnabled()) {
+            Optional<ClientResponse> buffered = ifMatch.isEmpty() ? bufferUpdate(clientId, request) : Optional.empty();
+            if (buffered.isPresent()) {
+                return ResponseEntity.ok(
+                        APIClientResponse.builder()
+                                .errorCode(SUCCESS_CODE)
+                                .errorMessage(UPDATE_ACCEPTED)
+                                .data(buffered.get())
+                                .build()
+                );
+            }
+            clientUpdateBuffer.flushPending(List.of(clientId));
+        }
         Optional<ClientModel> modelOptional = clientRepository.findById(clientId);
 
         if (modelOptional.isEmpty()) {
-            return ResponseEntity.ok(
-                    APIClientResponse.builder()
-                            .errorCode(CUSTOMER_NOT_EXISTS_CODE)
-                            .errorMessage(CUSTOMER_NOT_EXISTS)
-                            .data(List.of())
-                            .build()
-            );
+            return notFound();
         }
 
         ClientModel model = modelOptional.get();
-        model.setStatus(com.customer.service.section17.enums.CustomerStatus.INACTIVE);
-        clientRepository.save(model);
+        if (!matches(ifMatch, model)) {
+            return versionMismatch();
+        }
+        updateModel(model, request);
+        model = saveUnique(model);
+        clientCache.invalidate(clientId);
+        ClientResponse response = modelToResponseMapper(model);
+        clientChangeService.record(ClientEventType.UPDATED, response);
 
         return ResponseEntity.ok(
                 APIClientResponse.builder()
                         .errorCode(SUCCESS_CODE)
-                        .errorMessage(SUCCESSFULLY_DELETED)
-                        .data(modelToResponseMapper(model))
+                        .errorMessage(SUCCESSFULLY_UPDATED)
+                        .data(response)
                         .build()
         );
     }
 
     @Override
-    public ResponseEntity<APIClientResponse> updateClientDetails(long clientId, ClientRequest request) {
+    @Transactional
+    public ResponseEntity<APIClientResponse> patchClientDetails(long clientId, ClientPatchRequest request, List<String> ifMatch) {
+        clientUpdateBuffer.flushPending(List.of(clientId));
         Optional<ClientModel> modelOptional = clientRepository.findById(clientId);
 
         if (modelOptional.isEmpty()) {
-            return ResponseEntity.ok(
-                    APIClientResponse.builder()
-                            .errorCode(CUSTOMER_NOT_EXISTS_CODE)
-                            .errorMessage(CUSTOMER_NOT_EXISTS)
-                            .data(List.of())
-                            .build()
-            );
+            return notFound();
         }
 
         ClientModel model = modelOptional.get();
-        model.setClientName(request.getClientName());
-        model.setClientAge(request.getClientAge());
-        model.setClientMobileNumber(request.getClientMobileNumber());
-        model.setClientEmailAddress(request.getClientEmailAddress());
-        model.setClientAddress(request.getClientAddress());
-        model = clientRepository.save(model);
+        if (!matches(ifMatch, model)) {
+            return versionMismatch();
+        }
+        patchModel(model, request);
+        model = saveUnique(model);
+        clientCache.invalidate(clientId);
+        ClientResponse response = modelToResponseMapper(model);
+        clientChangeService.record(ClientEventType.UPDATED, response);
 
         return ResponseEntity.ok(
                 APIClientResponse.builder()
                         .errorCode(SUCCESS_CODE)
                         .errorMessage(SUCCESSFULLY_UPDATED)
-                        .data(modelToResponseMapper(model))
+                        .data(response)
+                        .build()
+        );
+    }
+
+    /**
+     * Validates every item on its own and persists the valid ones in chunks of
+     * {@link com.customer.service.section17.constant.CustomerConstant#BATCH_FLUSH_SIZE},
+     * so Hibernate sends them as JDBC batches and the persistence context stays small.
+     */
+    @Override
+    @Transactional
+    public ResponseEntity<APIClientResponse> createClients(List<ClientRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            return batchTooLarge();
+        }
+        ClientBatchItemResponse[] results = new ClientBatchItemResponse[requests.size()];
+        List<ClientModel> models = new ArrayList<>(BATCH_FLUSH_SIZE);
+        List<Integer> indexes = new ArrayList<>(BATCH_FLUSH_SIZE);
+        Set<String> takenEmailAddresses = new HashSet<>(clientRepository.findExistingEmailAddresses(
+                requests.stream().filter(Objects::nonNull).map(ClientRequest::getClientEmailAddress)
+                        .filter(Objects::nonNull).collect(Collectors.toSet())));
+        Set<String> takenMobileNumbers = new HashSet<>(clientRepository.findExistingMobileNumbers(
+                requests.stream().filter(Objects::nonNull).map(ClientRequest::getClientMobileNumber)
+                        .filter(Objects::nonNull).collect(Collectors.toSet())));
+
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> violations = validate(requests.get(i));
+            if (!violations.isEmpty()) {
+                results[i] = invalidItem(i, null, violations);
+                continue;
+            }
+            ClientRequest request = requests.get(i);
+            if (takenEmailAddresses.contains(request.getClientEmailAddress())
+                    || takenMobileNumbers.contains(request.getClientMobileNumber())) {
+                results[i] = conflictItem(i, null);
+                continue;
+            }
+            takenEmailAddresses.add(request.getClientEmailAddress());
+            takenMobileNumbers.add(request.getClientMobileNumber());
+            models.add(requestToModel(request, otpPool.take()));
+            indexes.add(i);
+            if (models.size() == BATCH_FLUSH_SIZE) {
+                persistChunk(models, indexes, results);
+            }
+        }
+        persistChunk(models, indexes, results);
+        return batchResponse(results);
+    }
+
+    /**
+     * Checks the new email addresses and mobile numbers against the database and the rest
+     * of the batch up front, like {@link #createClients}, and reports a collision as a 409
+     * for that item. A value a batch client holds stays reserved to it for the whole batch,
+     * as the order Hibernate flushes the updates in is not the order of the items.
+     */
+    @Override
+    @Transactional
+    public ResponseEntity<APIClientResponse> updateClients(List<ClientUpdateRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            return batchTooLarge();
+        }
+        ClientBatchItemResponse[] results = new ClientBatchItemResponse[requests.size()];
+        Set<Long> clientIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(ClientUpdateRequest::getClientId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        clientUpdateBuffer.flushPending(clientIds);
+        Map<Long, ClientModel> models = clientRepository.findAllById(clientIds)
+                .stream()
+                .collect(Collectors.toMap(ClientModel::getClientId, Function.identity()));
+        List<ClientRequest> clients = requests.stream()
+                .filter(Objects::nonNull)
+                .map(ClientUpdateRequest::getClient)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, Long> emailAddressOwners = owners(clientRepository.findExistingEmailAddresses(
+                clients.stream().map(ClientRequest::getClientEmailAddress).filter(Objects::nonNull).collect(Collectors.toSet())),
+                models.values(), ClientModel::getClientEmailAddress);
+        Map<String, Long> mobileNumberOwners = owners(clientRepository.findExistingMobileNumbers(
+                clients.stream().map(ClientRequest::getClientMobileNumber).filter(Objects::nonNull).collect(Collectors.toSet())),
+                models.values(), ClientModel::getClientMobileNumber);
+
+        for (int i = 0; i < requests.size(); i++) {
+            ClientUpdateRequest request = requests.get(i);
+            List<String> violations = validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = invalidItem(i, request == null ? null : request.getClientId(), violations);
+                continue;
+            }
+            ClientModel model = models.get(request.getClientId());
+            if (model == null) {
+                results[i] = notFoundItem(i, request.getClientId());
+                continue;
+            }
+            ClientRequest client = request.getClient();
+            if (!model.getClientId().equals(emailAddressOwners.getOrDefault(client.getClientEmailAddress(), model.getClientId()))
+                    || !model.getClientId().equals(mobileNumberOwners.getOrDefault(client.getClientMobileNumber(), model.getClientId()))) {
+                results[i] = conflictItem(i, model.getClientId());
+                continue;
+            }
+            emailAddressOwners.put(client.getClientEmailAddress(), model.getClientId());
+            mobileNumberOwners.put(client.getClientMobileNumber(), model.getClientId());
+            updateModel(model, client);
+            results[i] = successItem(i, model.getClientId(), SUCCESSFULLY_UPDATED, null);
+        }
+        try {
+            clientRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomerAlreadyExistsException(CUSTOMER_ALREADY_EXISTS);
+        }
+        clientCache.invalidateAll(models.keySet());
+        Map<Long, ClientResponse> updated = new HashMap<>();
+        for (ClientBatchItemResponse result : results) {
+            if (result.getErrorCode() == SUCCESS_CODE) {
+                ClientResponse response = updated.computeIfAbsent(result.getClientId(),
+                        clientId -> modelToResponseMapper(models.get(clientId)));
+                result.setData(response);
+            }
+        }
+        clientChangeService.recordAll(ClientEventType.UPDATED, updated.values());
+        return batchResponse(results);
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<APIClientResponse> deactivateClients(List<Long> clientIds) {
+        if (clientIds.size() > MAX_BATCH_SIZE) {
+            return batchTooLarge();
+        }
+        Set<Long> requestedIds = clientIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        clientUpdateBuffer.flushPending(requestedIds);
+        Set<Long> existingIds = new HashSet<>(clientRepository.findExistingClientIds(requestedIds));
+        if (!existingIds.isEmpty()) {
+            clientRepository.updateStatusByClientIds(existingIds, CustomerStatus.INACTIVE, LocalDateTime.now());
+            clientCache.invalidateAll(existingIds);
+            clientChangeService.recordDeactivated(existingIds);
+        }
+
+        ClientBatchItemResponse[] results = new ClientBatchItemResponse[clientIds.size()];
+        for (int i = 0; i < clientIds.size(); i++) {
+            Long clientId = clientIds.get(i);
+            results[i] = existingIds.contains(clientId)
+                    ? successItem(i, clientId, SUCCESSFULLY_DELETED, statusResponse(clientId, CustomerStatus.INACTIVE))
+                    : notFoundItem(i, clientId);
+        }
+        return batchResponse(results);
+    }
+
+    @Override
+    public ResponseEntity<APIClientResponse> getCacheStats() {
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(SUCCESS_CODE)
+                        .errorMessage(CACHE_STATS_RETRIEVED)
+                        .data(clientCache.stats())
+                        .build()
+        );
+    }
+
+    private Optional<ClientResponse> bufferUpdate(long clientId, ClientRequest request) {
+        if (!validate(request).isEmpty()) {
+            return Optional.empty();
+        }
+        return clientCache.get(clientId, id -> clientRepository.findById(id).map(ClientMapper::modelToResponseMapper))
+                .filter(current -> CustomerStatus.ACTIVE.name().equals(current.getStatus()))
+                .filter(current -> Objects.equals(current.getClientEmailAddress(), request.getClientEmailAddress())
+                        && Objects.equals(current.getClientMobileNumber(), request.getClientMobileNumber()))
+                .flatMap(current -> clientUpdateBuffer.buffer(current, request));
+    }
+
+    /**
+     * Saves the client and relies on the unique email/mobile indexes to reject
+     * duplicates, instead of checking for them with a separate query first.
+     */
+    private ClientModel saveUnique(ClientModel model) {
+        try {
+            return clientRepository.saveAndFlush(model);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomerAlreadyExistsException(CUSTOMER_ALREADY_EXISTS);
+        }
+    }
+
+    private void persistChunk(List<ClientModel> models, List<Integer> indexes, ClientBatchItemResponse[] results) {
+        if (models.isEmpty()) {
+            return;
+        }
+        clientRepository.saveAll(models);
+        entityManager.flush();
+        List<ClientResponse> responses = new ArrayList<>(models.size());
+        for (int i = 0; i < models.size(); i++) {
+            otpStore.issue(models.get(i).getClientId(), models.get(i).getClientOtp());
+            ClientResponse response = modelToResponseMapper(models.get(i));
+            responses.add(response);
+            results[indexes.get(i)] = successItem(indexes.get(i), response.getClientId(),
+                    SUCCESSFULLY_STORED, response);
+        }
+        clientChangeService.recordAll(ClientEventType.CREATED, responses);
+        entityManager.flush();
+        entityManager.clear();
+        models.clear();
+        indexes.clear();
+    }
+
+    private List<String> validate(Object request) {
+        if (request == null) {
+            return List.of(VALIDATION_FAILED);
+        }
+        return validator.validate(request)
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .toList();
+    }
+
+    private static ClientBatchItemResponse successItem(int index, Long clientId, String message, Object data) {
+        return ClientBatchItemResponse.builder()
+                .index(index)
+                .clientId(clientId)
+                .errorCode(SUCCESS_CODE)
+                .errorMessage(message)
+                .data(data)
+                .build();
+    }
+
+    private static ClientBatchItemResponse invalidItem(int index, Long clientId, List<String> violations) {
+        return ClientBatchItemResponse.builder()
+                .index(index)
+                .clientId(clientId)
+                .errorCode(HttpStatus.BAD_REQUEST.value())
+                .errorMessage(VALIDATION_FAILED)
+                .data(violations)
+                .build();
+    }
+
+    /**
+     * Maps each taken value to the batch client holding it, or to {@code null} when a
+     * client outside the batch holds it.
+     */
+    private static Map<String, Long> owners(Collection<String> taken, Collection<ClientModel> batch,
+                                            Function<ClientModel, String> key) {
+        Map<String, Long> owners = new HashMap<>();
+        taken.forEach(value -> owners.put(value, null));
+        batch.forEach(model -> owners.put(key.apply(model), model.getClientId()));
+        return owners;
+    }
+
+    private static ClientBatchItemResponse conflictItem(int index, Long clientId) {
+        return ClientBatchItemResponse.builder()
+                .index(index)
+                .clientId(clientId)
+                .errorCode(HttpStatus.CONFLICT.value())
+                .errorMessage(CUSTOMER_ALREADY_EXISTS)
+                .build();
+    }
+
+    private static ClientBatchItemResponse notFoundItem(int index, Long clientId) {
+        return ClientBatchItemResponse.builder()
+                .index(index)
+                .clientId(clientId)
+                .errorCode(CUSTOMER_NOT_EXISTS_CODE)
+                .errorMessage(CUSTOMER_NOT_EXISTS)
+                .build();
+    }
+
+    /**
+     * Compares {@code If-Match} with the version just read; a change committed after the
+     * read still fails the write through the row version check.
+     */
+    private static boolean matches(List<String> ifMatch, ClientModel model) {
+        return ClientETags.matches(ifMatch, new ClientVersion(model.getClientId(), model.getVersion(), model.getUpdatedDate()));
+    }
+
+    private static ResponseEntity<APIClientResponse> versionMismatch() {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(
+                APIClientResponse.builder()
+                        .errorCode(HttpStatus.PRECONDITION_FAILED.value())
+                        .errorMessage(CUSTOMER_VERSION_MISMATCH)
+                        .data(List.of())
+                        .build()
+        );
+    }
+
+    private static ResponseEntity<APIClientResponse> notFound() {
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(CUSTOMER_NOT_EXISTS_CODE)
+                        .errorMessage(CUSTOMER_NOT_EXISTS)
+                        .data(List.of())
+                        .build()
+        );
+    }
+
+    private static ResponseEntity<APIClientResponse> batchResponse(ClientBatchItemResponse[] results) {
+        return ResponseEntity.ok(
+                APIClientResponse.builder()
+                        .errorCode(SUCCESS_CODE)
+                        .errorMessage(BATCH_PROCESSED)
+                        .data(Arrays.asList(results))
+                        .build()
+        );
+    }
+
+    private static ResponseEntity<APIClientResponse> batchTooLarge() {
+        return ResponseEntity.badRequest().body(
+                APIClientResponse.builder()
+                        .errorCode(HttpStatus.BAD_REQUEST.value())
+                        .errorMessage(BATCH_TOO_LARGE)
+                        .data(List.of())
                         .build()
         );
     }
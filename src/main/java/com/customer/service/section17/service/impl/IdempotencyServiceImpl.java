@@ -0,0 +1,251 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.config.IdempotencyProperties;
+import com.customer.service.section17.entity.IdempotencyRecord;
+import com.customer.service.section17.repository.IdempotencyRecordRepository;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static com.customer.service.section17.constant.CustomerConstant.IDEMPOTENCY_KEY_IN_PROGRESS;
+import static com.customer.service.section17.constant.CustomerConstant.IDEMPOTENCY_KEY_REUSED;
+
+/**
+ * The first request for a key registers an in-flight future in a bounded, TTL-evicting
+ * Caffeine map; concurrent duplicates wait on that future and retries replay its result,
+ * so only one of them ever reaches the write path. 5xx responses and exceptions are not
+ * recorded, so the client can retry those for real, and neither are the 409 and 422
+ * answers given for another instance's claim, which only hold until that claim resolves.
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final Cache<String, InFlight> responses;
+    private final IdempotencyRecordRepository recordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository recordRepository, TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper, IdempotencyProperties properties) {
+        this.recordRepository = recordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    @Override
+    public ResponseEntity<APIClientResponse> execute(String idempotencyKey, String scope, Object request,
+                                                     Supplier<ResponseEntity<APIClientResponse>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        String key = scope + ":" + idempotencyKey;
+        InFlight mine = new InFlight(fingerprint(key, request), new CompletableFuture<>());
+        InFlight existing = responses.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            return awaitOriginal(existing, mine.fingerprint());
+        }
+
+        StoredResponse stored;
+        try {
+            stored = properties.dbEnabled() ? executeDurably(key, mine.fingerprint(), action) : run(action);
+        } catch (RuntimeException e) {
+            responses.asMap().remove(key, mine);
+            mine.result().completeExceptionally(e);
+            throw e;
+        }
+        if (stored.status() >= 500 || !stored.recordable()) {
+            responses.asMap().remove(key, mine);
+        }
+        mine.result().complete(stored);
+        return stored.toResponse();
+    }
+
+    private ResponseEntity<APIClientResponse> awaitOriginal(InFlight original, String fingerprint) {
+        if (!original.fingerprint().equals(fingerprint)) {
+            return failure(HttpStatus.UNPROCESSABLE_ENTITY, IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return original.result()
+                    .get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    .asReplay()
+                    .toResponse();
+        } catch (TimeoutException e) {
+            return failure(HttpStatus.CONFLICT, IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failure(HttpStatus.CONFLICT, IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Claims the key with an insert before running the action, so duplicates arriving at
+     * other instances find the claim instead of executing a second time. A claim older
+     * than the claim timeout that never got a response is taken over once.
+     */
+    private StoredResponse executeDurably(String key, String fingerprint,
+                                          Supplier<ResponseEntity<APIClientResponse>> action) {
+        IdempotencyRecord claim = claim(key, fingerprint);
+        if (claim == null) {
+            LocalDateTime cutoff = LocalDateTime.now().minus(properties.claimTimeout());
+            Integer released = transactionTemplate.execute(status -> recordRepository.deleteStaleClaim(key, cutoff));
+            claim = released != null && released > 0 ? claim(key, fingerprint) : null;
+            if (claim == null) {
+                return recorded(key, fingerprint);
+            }
+            log.warn("Took over idempotency claim {} left without a response", key);
+        }
+
+        StoredResponse stored;
+        try {
+            stored = run(action);
+        } catch (RuntimeException e) {
+            recordRepository.deleteById(key);
+            throw e;
+        }
+        if (stored.status() >= 500) {
+            recordRepository.deleteById(key);
+            return stored;
+        }
+        try {
+            claim.setStatusCode(stored.status());
+            claim.setResponseBody(objectMapper.writeValueAsString(stored.body()));
+            IdempotencyRecord completed = claim;
+            transactionTemplate.executeWithoutResult(status -> recordRepository.save(completed));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // the request itself succeeded; only cross-instance replay of it is lost
+            log.warn("Could not record idempotent response for {}: {}", key, e.getMessage());
+        }
+        return stored;
+    }
+
+    /**
+     * Inserts the claim row, or returns {@code null} when the key is already claimed.
+     */
+    private IdempotencyRecord claim(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord claim = IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .fingerprint(fingerprint)
+                .createdDate(now)
+                .expiresAt(now.plus(properties.ttl()))
+                .build();
+        try {
+            transactionTemplate.executeWithoutResult(status -> recordRepository.saveAndFlush(claim));
+            return claim;
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    private StoredResponse recorded(String key, String fingerprint) {
+        Optional<IdempotencyRecord> record = recordRepository.findById(key);
+        if (record.isEmpty() || record.get().getStatusCode() == null) {
+            return StoredResponse.failure(HttpStatus.CONFLICT, IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+        if (!record.get().getFingerprint().equals(fingerprint)) {
+            return StoredResponse.failure(HttpStatus.UNPROCESSABLE_ENTITY, IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            APIClientResponse body = objectMapper.readValue(record.get().getResponseBody(), APIClientResponse.class);
+            return new StoredResponse(record.get().getStatusCode(), body, true, true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable idempotency record " + key, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${client.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (properties.dbEnabled()) {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                recordRepository.deleteExpired(now);
+                recordRepository.deleteStaleClaims(now.minus(properties.claimTimeout()));
+            });
+        }
+    }
+
+    private static StoredResponse run(Supplier<ResponseEntity<APIClientResponse>> action) {
+        ResponseEntity<APIClientResponse> response = action.get();
+        return new StoredResponse(response.getStatusCode().value(), response.getBody(), false, true);
+    }
+
+    private String fingerprint(String key, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ResponseEntity<APIClientResponse> failure(HttpStatus status, String message) {
+        return StoredResponse.failure(status, message).toResponse();
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<StoredResponse> result) {
+    }
+
+    /**
+     * @param recordable whether the response may be replayed for later retries; {@code false}
+     *                   for answers about a claim that is still open or was made with another body
+     */
+    private record StoredResponse(int status, APIClientResponse body, boolean replayed, boolean recordable) {
+
+        static StoredResponse failure(HttpStatus status, String message) {
+            return new StoredResponse(status.value(), APIClientResponse.builder()
+                    .errorCode(status.value())
+                    .errorMessage(message)
+                    .data(List.of())
+                    .build(), false, false);
+        }
+
+        StoredResponse asReplay() {
+            return new StoredResponse(status, body, true, recordable);
+        }
+
+        ResponseEntity<APIClientResponse> toResponse() {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+            if (replayed) {
+                builder.header(REPLAYED_HEADER, "true");
+            }
+            return builder.body(body);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.customer.service.section17.util;
+
+import com.customer.service.section17.response.ClientVersion;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Builds HTTP validators for client resources. The ETag is strong: the id and row
+ * version change together with every persisted change to the client.
+ */
+public class ClientETags {
+
+    public static String eTag(ClientVersion version) {
+        return "\"" + version.clientId() + "-" + version.version() + "\"";
+    }
+
+    /**
+     * Evaluates {@code If-Match} against the client's current version: true when the header
+     * was absent, is {@code *}, or lists the current ETag. Weak ETags never match.
+     */
+    public static boolean matches(List<String> ifMatch, ClientVersion version) {
+        return ifMatch.isEmpty() || ifMatch.contains("*") || ifMatch.contains(eTag(version));
+    }
+
+    public static long lastModified(LocalDateTime updatedDate) {
+        return updatedDate == null ? -1 : updatedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
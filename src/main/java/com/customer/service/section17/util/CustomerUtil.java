@@ -1,12 +1,6 @@
 package com.customer.service.section17.util;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
-import java.util.Objects;
-import java.util.stream.Collectors;
-
-import static com.customer.service.section17.constant.CustomerConstant.*;
+import com.customer.service.section17.credential.CredentialGenerator;
 
 /**
  * Util class for customer-related helper methods such as hashing passwords.
@@ -14,20 +8,14 @@ import static com.customer.service.section17.constant.CustomerConstant.*;
  */
 public class CustomerUtil {
 
+    private static final CredentialGenerator GENERATOR = new CredentialGenerator();
+
     public static String generatePassword() {
-        SecureRandom random = new SecureRandom();
-        return random.ints(PASS_LENGTH, 0, PASS_CHARACTERS.length())
-                .mapToObj(PASS_CHARACTERS::charAt)
-                .map(Object::toString)
-                .collect(Collectors.joining());
+        return GENERATOR.password();
     }
 
     public static String generateOtp(){
-        SecureRandom random = new SecureRandom();
-        return random.ints(OTP_LENGTH, 0, OTP_CHARACTERS.length())
-                .mapToObj(OTP_CHARACTERS::charAt)
-                .map(Objects::toString)
-                .collect(Collectors.joining());
+        return GENERATOR.otp();
     }
 
     /**
@@ -36,21 +24,6 @@ public class CustomerUtil {
      * @return hashed password in hexadecimal format
      */
     public static String autoGenerateHashPassword() {
-        String plainPassword = generatePassword();
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] encodedHash = digest.digest(plainPassword.getBytes());
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : encodedHash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Error: SHA-256 algorithm not found.", e);
-        }
+        return GENERATOR.sha256Hex(generatePassword());
     }
 }
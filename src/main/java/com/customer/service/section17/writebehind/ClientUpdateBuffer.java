@@ -0,0 +1,398 @@
+package com.customer.service.section17.writebehind;
+
+import com.customer.service.section17.cache.ClientCache;
+import com.customer.service.section17.config.WriteBehindProperties;
+import com.customer.service.section17.enums.ClientEventType;
+import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.request.ClientAddress;
+import com.customer.service.section17.request.ClientRequest;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.service.ClientChangeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces full updates of the same client and writes only the latest one per flush
+ * interval, as one JDBC batch per {@code flushBatchSize} clients.
+ *
+ * <p>A writer claims a client's update under its stripe lock before writing it, and
+ * releases the claim when its transaction completes; there is no lock spanning
+ * transactions. The claimed update stays visible to {@link #overlay} until then. A newer
+ * update that arrives meanwhile waits beside it and is written by a later flush, since
+ * a client is claimed by one writer at a time. Any other mutation of a buffered client
+ * must call {@link #flushPending} first, in its own transaction, so it is applied on top
+ * of the buffered update rather than overwritten by it later.
+ */
+@Slf4j
+@Component
+public class ClientUpdateBuffer implements MeterBinder {
+
+    private static final String UPDATE_SQL = "update client_details set client_name = ?, client_age = ?, "
+            + "client_mobile_number = ?, client_email_address = ?, address = ?, city = ?, state = ?, country = ?, "
+            + "updated_by = ?, version = version + 1 where id = ?";
+    private static final long CLAIM_WAIT_SECONDS = 30;
+
+    private final Stripe[] stripes;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final WriteBehindProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ClientRepository clientRepository;
+    private final ClientCache clientCache;
+    private final ClientChangeService clientChangeService;
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean closed;
+    private Counter coalesced;
+    private Counter dropped;
+
+    public ClientUpdateBuffer(WriteBehindProperties properties, JdbcTemplate jdbcTemplate,
+                              ClientRepository clientRepository, ClientCache clientCache,
+                              ClientChangeService clientChangeService, TransactionTemplate transactionTemplate) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clientRepository = clientRepository;
+        this.clientCache = clientCache;
+        this.clientChangeService = clientChangeService;
+        this.transactionTemplate = transactionTemplate;
+        this.stripes = new Stripe[properties.stripes()];
+        Arrays.setAll(stripes, i -> new Stripe());
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Buffers {@code request} as the latest state of {@code current}'s client and returns
+     * that state with a {@code null} version, which is only known once it is written.
+     * Returns empty when the buffer is full or shutting down; the caller then writes inline.
+     */
+    public Optional<ClientResponse> buffer(ClientResponse current, ClientRequest request) {
+        if (closed || !properties.enabled()) {
+            return Optional.empty();
+        }
+        long clientId = current.getClientId();
+        PendingUpdate update = new PendingUpdate(clientId, request, LocalDateTime.now());
+        Stripe stripe = stripe(clientId);
+        stripe.lock.lock();
+        try {
+            Slot slot = stripe.slots.get(clientId);
+            if (slot == null) {
+                if (pendingCount.get() >= properties.maxPending()) {
+                    return Optional.empty();
+                }
+                pendingCount.incrementAndGet();
+                slot = new Slot();
+                stripe.slots.put(clientId, slot);
+            } else if (slot.next != null) {
+                coalesced.increment();
+            }
+            slot.next = update;
+        } finally {
+            stripe.lock.unlock();
+        }
+        return Optional.of(update.applyTo(current));
+    }
+
+    /**
+     * Returns {@code client} with its buffered update applied, or unchanged when none is pending.
+     */
+    public ClientResponse overlay(ClientResponse client) {
+        if (pendingCount.get() == 0) {
+            return client;
+        }
+        PendingUpdate update = pending(client.getClientId());
+        return update == null ? client : update.applyTo(client);
+    }
+
+    public boolean isPending(long clientId) {
+        return pendingCount.get() > 0 && pending(clientId) != null;
+    }
+
+    /**
+     * Writes the buffered updates of the given clients in the caller's transaction. First
+     * waits for other writers of those clients to complete, so no older update can commit
+     * after the caller's own changes, then claims the clients until the caller's
+     * transaction completes. A rollback hands the updates back to the buffer.
+     */
+    public void flushPending(Collection<Long> clientIds) {
+        if (!properties.enabled() || pendingCount.get() == 0) {
+            return;
+        }
+        List<PendingUpdate> updates = claimAll(clientIds);
+        if (updates.isEmpty()) {
+            return;
+        }
+        try {
+            write(updates);
+        } catch (RuntimeException e) {
+            updates.forEach(update -> release(update, false));
+            throw e;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                updates.forEach(update -> release(update, status == STATUS_COMMITTED));
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${client.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (pendingCount.get() == 0) {
+            return;
+        }
+        List<PendingUpdate> updates = claimUnclaimed();
+        for (int from = 0; from < updates.size(); from += properties.flushBatchSize()) {
+            List<PendingUpdate> batch = updates.subList(from, Math.min(from + properties.flushBatchSize(), updates.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+            } catch (DataIntegrityViolationException e) {
+                batch.forEach(this::writeAlone);
+                continue;
+            } catch (RuntimeException e) {
+                log.warn("Writing {} buffered client updates failed, will retry: {}", updates.size() - from, e.getMessage());
+                updates.subList(from, updates.size()).forEach(update -> release(update, false));
+                return;
+            }
+            batch.forEach(update -> release(update, true));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("client.writebehind.pending", pendingCount, AtomicInteger::get)
+                .description("Clients with a buffered update not yet written")
+                .register(registry);
+        coalesced = Counter.builder("client.writebehind.coalesced")
+                .description("Updates that replaced a still-buffered update of the same client")
+                .register(registry);
+        dropped = Counter.builder("client.writebehind.dropped")
+                .description("Buffered updates rejected by the database")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        closed = true;
+        flush();
+    }
+
+    private void writeAlone(PendingUpdate update) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(List.of(update)));
+        } catch (DataIntegrityViolationException e) {
+            dropped.increment();
+            log.warn("Dropping buffered update of client {}: {}", update.clientId(), e.getMostSpecificCause().getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Writing buffered update of client {} failed, will retry: {}", update.clientId(), e.getMessage());
+            release(update, false);
+            return;
+        }
+        release(update, true);
+    }
+
+    private void write(List<PendingUpdate> updates) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (statement, update) -> {
+            ClientRequest request = update.request();
+            ClientAddress address = request.getClientAddress();
+            statement.setString(1, request.getClientName());
+            statement.setObject(2, request.getClientAge());
+            statement.setString(3, request.getClientMobileNumber());
+            statement.setString(4, request.getClientEmailAddress());
+            statement.setString(5, address == null ? null : address.getAddress());
+            statement.setString(6, address == null ? null : address.getCity());
+            statement.setString(7, address == null ? null : address.getState());
+            statement.setString(8, address == null ? null : address.getCountry());
+            statement.setTimestamp(9, Timestamp.valueOf(update.updatedDate()));
+            statement.setLong(10, update.clientId());
+        });
+        List<Long> clientIds = updates.stream().map(PendingUpdate::clientId).toList();
+        List<ClientResponse> responses = clientRepository.findAllById(clientIds)
+                .stream()
+                .map(ClientMapper::modelToResponseMapper)
+                .toList();
+        clientChangeService.recordAll(ClientEventType.UPDATED, responses);
+        clientCache.invalidateAll(clientIds);
+    }
+
+    /**
+     * Claims every buffered update no other writer holds; the rest wait for a later flush.
+     */
+    private List<PendingUpdate> claimUnclaimed() {
+        List<PendingUpdate> updates = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                for (Slot slot : stripe.slots.values()) {
+                    if (slot.claimable()) {
+                        updates.add(slot.claim());
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return updates;
+    }
+
+    /**
+     * Claims the buffered updates of all given clients. Claims nothing while another writer
+     * holds one of them: waits for it, then starts over, so waiters never hold claims and
+     * cannot wait on each other.
+     */
+    private List<PendingUpdate> claimAll(Collection<Long> clientIds) {
+        while (true) {
+            List<PendingUpdate> updates = new ArrayList<>();
+            CompletableFuture<Void> busy = null;
+            for (Long clientId : clientIds) {
+                Stripe stripe = stripe(clientId);
+                stripe.lock.lock();
+                try {
+                    Slot slot = stripe.slots.get(clientId);
+                    if (slot == null) {
+                        continue;
+                    }
+                    if (slot.writing != null) {
+                        busy = slot.written;
+                        break;
+                    }
+                    if (slot.claimable()) {
+                        updates.add(slot.claim());
+                    }
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+            if (busy == null) {
+                return updates;
+            }
+            updates.forEach(update -> release(update, false));
+            await(busy);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> written) {
+        try {
+            written.get(CLAIM_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new CannotAcquireLockException("Timed out waiting for a buffered client update to be written", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted waiting for a buffered client update to be written", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Ends the claim on {@code update}. A written update is done with; an unwritten one goes
+     * back to the buffer unless a newer update of the same client arrived meanwhile.
+     */
+    private void release(PendingUpdate update, boolean written) {
+        Stripe stripe = stripe(update.clientId());
+        CompletableFuture<Void> released;
+        stripe.lock.lock();
+        try {
+            Slot slot = stripe.slots.get(update.clientId());
+            if (slot == null || slot.writing != update) {
+                return;
+            }
+            if (!written && slot.next == null) {
+                slot.next = update;
+            }
+            slot.writing = null;
+            released = slot.written;
+            slot.written = null;
+            if (slot.next == null) {
+                stripe.slots.remove(update.clientId());
+                pendingCount.decrementAndGet();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        released.complete(null);
+    }
+
+    private PendingUpdate pending(long clientId) {
+        Stripe stripe = stripe(clientId);
+        stripe.lock.lock();
+        try {
+            Slot slot = stripe.slots.get(clientId);
+            return slot == null ? null : slot.latest();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripe(long clientId) {
+        return stripes[(int) Math.floorMod(Long.hashCode(clientId) * 0x9E3779B9, stripes.length)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, Slot> slots = new HashMap<>();
+    }
+
+    /**
+     * A buffered client: the update being written by the claiming writer, if any, and the
+     * newer one waiting for the next flush. Guarded by the stripe lock.
+     */
+    private static final class Slot {
+        private PendingUpdate next;
+        private PendingUpdate writing;
+        private CompletableFuture<Void> written;
+
+        boolean claimable() {
+            return writing == null && next != null;
+        }
+
+        PendingUpdate claim() {
+            writing = next;
+            next = null;
+            written = new CompletableFuture<>();
+            return writing;
+        }
+
+        PendingUpdate latest() {
+            return next != null ? next : writing;
+        }
+    }
+
+    private record PendingUpdate(long clientId, ClientRequest request, LocalDateTime updatedDate) {
+
+        ClientResponse applyTo(ClientResponse client) {
+            return client.toBuilder()
+                    .clientName(request.getClientName())
+                    .clientAge(request.getClientAge())
+                    .clientMobileNumber(request.getClientMobileNumber())
+                    .clientEmailAddress(request.getClientEmailAddress())
+                    .clientAddress(request.getClientAddress())
+                    .updatedDate(updatedDate)
+                    .version(null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+-- Baseline schema, equal to what ddl-auto=update produced from the entities. Databases
+-- that were created that way are baselined at version 1 instead of running this script.
+
+create table client_change_outbox (
+    client_id bigint not null,
+    created_date datetime(6),
+    published_date datetime(6),
+    published_sequence bigint,
+    seq bigint not null,
+    payload varchar(4000),
+    event_type enum ('CREATED','DEACTIVATED','UPDATED') not null,
+    primary key (seq)
+) engine=InnoDB;
+
+create table client_change_outbox_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into client_change_outbox_seq values ( 1 );
+
+create table client_details (
+    client_age integer,
+    verified bit,
+    created_by datetime(6),
+    id bigint not null,
+    updated_by datetime(6),
+    version bigint default 0 not null,
+    address varchar(255),
+    city varchar(255),
+    client_email_address varchar(255),
+    client_mobile_number varchar(255),
+    client_name varchar(255),
+    client_password varchar(255),
+    country varchar(255),
+    otp varchar(255),
+    state varchar(255),
+    status enum ('ACTIVE','INACTIVE'),
+    primary key (id)
+) engine=InnoDB;
+
+create table client_details_archive (
+    client_age integer,
+    verified bit,
+    archived_at datetime(6) not null,
+    created_by datetime(6),
+    id bigint not null,
+    updated_by datetime(6),
+    version bigint not null,
+    address varchar(255),
+    city varchar(255),
+    client_email_address varchar(255),
+    client_mobile_number varchar(255),
+    client_name varchar(255),
+    client_password varchar(255),
+    country varchar(255),
+    otp varchar(255),
+    state varchar(255),
+    status enum ('ACTIVE','INACTIVE'),
+    primary key (id)
+) engine=InnoDB;
+
+create table client_model_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into client_model_seq values ( 1 );
+
+create table idempotency_records (
+    status_code integer,
+    created_date datetime(6) not null,
+    expires_at datetime(6) not null,
+    fingerprint varchar(64) not null,
+    idempotency_key varchar(320) not null,
+    response_body mediumtext,
+    primary key (idempotency_key)
+) engine=InnoDB;
+
+alter table client_change_outbox 
+   add constraint uk_outbox_published_sequence unique (published_sequence);
+
+create index idx_client_status_verified_created 
+   on client_details (status, verified, created_by, id);
+
+create index idx_client_location 
+   on client_details (country, state, city);
+
+create index idx_client_created 
+   on client_details (created_by, id);
+
+create index idx_client_updated 
+   on client_details (updated_by);
+
+create index idx_client_status_updated 
+   on client_details (status, updated_by);
+
+alter table client_details 
+   add constraint uk_client_email_address unique (client_email_address);
+
+alter table client_details 
+   add constraint uk_client_mobile_number unique (client_mobile_number);
+
+create index idx_idempotency_expires_at 
+   on idempotency_records (expires_at);
@@ -0,0 +1,4 @@
+-- Version of the client row an outbox event describes, so the relay can publish each
+-- client's events in commit order whatever their insert sequence.
+
+alter table client_change_outbox add column client_version bigint;
@@ -0,0 +1,81 @@
+package com.customer.service.section17.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    @Test
+    void coalescesKeysArrivingWithinWindow() throws Exception {
+        List<Set<Long>> loads = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (MicroBatcher<Long, String> batcher = new MicroBatcher<>("test-batcher", keys -> {
+            loads.add(Set.copyOf(keys));
+            return keys.stream().filter(key -> key != 3L)
+                    .collect(Collectors.toMap(Function.identity(), key -> "client-" + key));
+        }, executor, Duration.ofMillis(200), 100)) {
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (long key = 1; key <= 5; key++) {
+                futures.add(batcher.submit(key));
+            }
+            futures.add(batcher.submit(1L));
+
+            assertEquals("client-1", futures.get(0).join());
+            assertNull(futures.get(2).join());
+            assertEquals("client-1", futures.get(5).join());
+            assertEquals(1, loads.size());
+            assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), loads.get(0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void failsEveryCallerOfFailedBatch() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (MicroBatcher<Long, String> batcher = new MicroBatcher<>("test-batcher",
+                keys -> { throw new IllegalStateException("database down"); },
+                executor, Duration.ofMillis(50), 100)) {
+            CompletableFuture<String> first = batcher.submit(1L);
+            CompletableFuture<String> second = batcher.submit(2L);
+            assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, first::join).getCause());
+            assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, second::join).getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void splitsAtMaxBatchSize() throws Exception {
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (MicroBatcher<Long, String> batcher = new MicroBatcher<>("test-batcher", keys -> {
+            sizes.add(keys.size());
+            return Map.of();
+        }, executor, Duration.ofMillis(200), 2)) {
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (long key = 1; key <= 5; key++) {
+                futures.add(batcher.submit(key));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            assertTrue(sizes.stream().allMatch(size -> size <= 2));
+            assertEquals(5, sizes.stream().mapToInt(Integer::intValue).sum());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
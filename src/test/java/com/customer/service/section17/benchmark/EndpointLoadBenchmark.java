@@ -0,0 +1,250 @@
+package com.customer.service.section17.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives the five CRUD endpoints of one running instance and reports throughput and
+ * latency percentiles per endpoint as seen by the caller, then per layer as recorded by
+ * the instance itself: {@code http.server.requests} for the web layer,
+ * {@code client.service} for the service layer and {@code spring.data.repository.invocations}
+ * for the repository layer. Those come from the histogram buckets in
+ * {@code /actuator/prometheus}, scraped before and after the measured run, so warmup and
+ * seeding are left out. Start the instance on
+ * the in-memory backend without rate limiting, from a jar built with {@code -Ph2}, e.g.
+ *
+ * <pre>
+ * mvn -Ph2 package -DskipTests
+ * java -jar target/customer-service-section17-0.0.1-SNAPSHOT.jar \
+ *     --spring.profiles.active=h2 --client.rate-limit.enabled=false
+ * mvn test -Dtest=EndpointLoadBenchmark -Dbenchmark.baseUrl=http://localhost:8080 \
+ *     -Dbenchmark.concurrency=64 -Dbenchmark.seconds=60 -Dbenchmark.seedClients=1000
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.baseUrl", matches = ".+")
+class EndpointLoadBenchmark {
+
+    private static final String BASE_URL = System.getProperty("benchmark.baseUrl");
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 64);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmupSeconds", 10);
+    private static final int SEED_CLIENTS = Integer.getInteger("benchmark.seedClients", 1000);
+    private static final List<String> ENDPOINTS = List.of("getById", "getAllClients", "updateById", "create", "deleteById");
+    private static final int[] WEIGHTS = {50, 20, 20, 5, 5};
+    private static final Pattern BUCKET_LINE = Pattern.compile(
+            "^(http_server_requests_seconds|client_service_seconds|spring_data_repository_invocations_seconds)"
+                    + "_bucket\\{(.*)} (\\S+)$");
+    private static final Pattern LABEL = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLong sequence = new AtomicLong(ThreadLocalRandom.current().nextLong(100_000_000L) * 10);
+    private final List<SeededClient> clients = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void driveAllEndpoints() throws Exception {
+        for (int i = 0; i < SEED_CLIENTS; i++) {
+            HttpResponse<String> response = send(create());
+            if (response.statusCode() == 200) {
+                JsonNode data = objectMapper.readTree(response.body()).path("data");
+                clients.add(new SeededClient(data.path("clientId").asLong(),
+                        data.path("clientEmailAddress").asText(), data.path("clientMobileNumber").asText()));
+            }
+        }
+        if (clients.isEmpty()) {
+            throw new IllegalStateException("No client could be created at " + BASE_URL);
+        }
+
+        drive(WARMUP_SECONDS, new ConcurrentHashMap<>());
+        Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+        Map<String, Map<String, TreeMap<Double, Double>>> before = scrapeBuckets();
+        long elapsed = drive(SECONDS, recorders);
+        Map<String, Map<String, TreeMap<Double, Double>>> after = scrapeBuckets();
+
+        System.out.println("client layer (end to end)");
+        for (String endpoint : ENDPOINTS) {
+            LatencyRecorder recorder = recorders.get(endpoint);
+            if (recorder != null) {
+                System.out.println("  " + recorder.report(endpoint, elapsed));
+            }
+        }
+        after.forEach((layer, series) -> {
+            System.out.println(layer);
+            series.forEach((name, buckets) -> {
+                TreeMap<Double, Double> run = new TreeMap<>();
+                TreeMap<Double, Double> earlier = before.getOrDefault(layer, Map.of()).getOrDefault(name, new TreeMap<>());
+                buckets.forEach((le, count) -> run.put(le, count - earlier.getOrDefault(le, 0.0)));
+                double total = run.lastEntry().getValue();
+                if (total > 0) {
+                    System.out.printf("  %-60s count=%.0f p50=%.2fms p95=%.2fms p99=%.2fms%n", name, total,
+                            quantile(run, 0.50), quantile(run, 0.95), quantile(run, 0.99));
+                }
+            });
+        });
+    }
+
+    /**
+     * Closed-loop load: {@link #CONCURRENCY} callers each issue a request as soon as the
+     * previous one finishes, picking the endpoint by {@link #WEIGHTS}.
+     * Only successful responses are timed; anything else counts as an error.
+     */
+    private long drive(int seconds, Map<String, LatencyRecorder> recorders) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                callers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        String endpoint = pick();
+                        LatencyRecorder recorder = recorders.computeIfAbsent(endpoint, e -> new LatencyRecorder());
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = send(request(endpoint));
+                            if (response.statusCode() / 100 == 2) {
+                                recorder.record(System.nanoTime() - sent);
+                            } else {
+                                recorder.recordError();
+                            }
+                        } catch (Exception e) {
+                            recorder.recordError();
+                        }
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private HttpRequest request(String endpoint) {
+        SeededClient seeded = clients.get(ThreadLocalRandom.current().nextInt(clients.size()));
+        long clientId = seeded.clientId();
+        return switch (endpoint) {
+            case "getById" -> HttpRequest.newBuilder(uri("/getById/" + clientId)).GET().build();
+            case "getAllClients" -> HttpRequest.newBuilder(uri("/getAllClients?size=20")).GET().build();
+            case "updateById" -> update(seeded);
+            case "create" -> create();
+            case "deleteById" -> HttpRequest.newBuilder(uri("/deleteById/" + clientId)).DELETE().build();
+            default -> throw new IllegalArgumentException(endpoint);
+        };
+    }
+
+    private HttpRequest create() {
+        long n = sequence.incrementAndGet();
+        String body = String.format("{\"clientName\":\"Load %d\",\"clientAge\":30,"
+                + "\"clientEmailAddress\":\"load%d@bench.test\",\"clientMobileNumber\":\"%010d\"}", n, n, n);
+        return HttpRequest.newBuilder(uri("/create"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * A full replacement through {@code PUT}, keeping the client's email address and mobile
+     * number so it never collides with another client.
+     */
+    private HttpRequest update(SeededClient seeded) {
+        String body = String.format("{\"clientName\":\"Load %d updated\",\"clientAge\":%d,"
+                        + "\"clientEmailAddress\":\"%s\",\"clientMobileNumber\":\"%s\"}",
+                seeded.clientId(), ThreadLocalRandom.current().nextInt(18, 100),
+                seeded.emailAddress(), seeded.mobileNumber());
+        return HttpRequest.newBuilder(uri("/updateById/" + seeded.clientId()))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String pick() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            roll -= WEIGHTS[i];
+            if (roll < 0) {
+                return ENDPOINTS.get(i);
+            }
+        }
+        return ENDPOINTS.getFirst();
+    }
+
+    private static URI uri(String path) {
+        return URI.create(BASE_URL + "/api/v1/client" + path);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Cumulative bucket counts of the three layer timers, per series: URI for the web
+     * layer, method for the other two. Series differing only in status or exception are summed.
+     */
+    private Map<String, Map<String, TreeMap<Double, Double>>> scrapeBuckets() throws IOException, InterruptedException {
+        String scrape = send(HttpRequest.newBuilder(URI.create(BASE_URL + "/actuator/prometheus")).GET().build()).body();
+        Map<String, Map<String, TreeMap<Double, Double>>> layers = new TreeMap<>();
+        for (String line : scrape.split("\n")) {
+            Matcher matcher = BUCKET_LINE.matcher(line);
+            if (!matcher.matches()) {
+                continue;
+            }
+            Map<String, String> labels = new HashMap<>();
+            Matcher label = LABEL.matcher(matcher.group(2));
+            while (label.find()) {
+                labels.put(label.group(1), label.group(2));
+            }
+            String uri = labels.getOrDefault("uri", "");
+            if (!uri.isEmpty() && !uri.startsWith("/api/v1/client")) {
+                continue;
+            }
+            String series = !uri.isEmpty() ? labels.get("method") + " " + uri
+                    : labels.containsKey("repository") ? labels.get("repository") + "." + labels.get("method")
+                    : labels.get("method");
+            double le = labels.get("le").equals("+Inf") ? Double.POSITIVE_INFINITY : Double.parseDouble(labels.get("le"));
+            layers.computeIfAbsent(matcher.group(1), k -> new TreeMap<>())
+                    .computeIfAbsent(series, k -> new TreeMap<>())
+                    .merge(le, Double.parseDouble(matcher.group(3)), Double::sum);
+        }
+        return layers;
+    }
+
+    /**
+     * Quantile in milliseconds from cumulative bucket counts, interpolating linearly
+     * within the bucket it falls into, as Prometheus' {@code histogram_quantile} does.
+     */
+    private static double quantile(TreeMap<Double, Double> buckets, double quantile) {
+        double rank = quantile * buckets.lastEntry().getValue();
+        double lower = 0;
+        double below = 0;
+        for (Map.Entry<Double, Double> bucket : buckets.entrySet()) {
+            if (bucket.getValue() >= rank) {
+                double upper = bucket.getKey().isInfinite() ? lower : bucket.getKey();
+                double inBucket = bucket.getValue() - below;
+                double fraction = inBucket == 0 ? 1 : (rank - below) / inBucket;
+                return (lower + (upper - lower) * fraction) * 1000;
+            }
+            lower = bucket.getKey();
+            below = bucket.getValue();
+        }
+        return lower * 1000;
+    }
+
+    private record SeededClient(long clientId, String emailAddress, String mobileNumber) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.customer.service.section17.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares throughput and tail latency of two running instances, one started with
+ * {@code CLIENT_VIRTUAL_THREADS=false} and one with {@code CLIENT_VIRTUAL_THREADS=true}.
+ * Each instance is seeded with its own clients first, so every single-id read finds a row.
+ * Start both without rate limiting and with the client and page caches disabled, so reads
+ * take the blocking JPA path instead of being rejected or answered from memory. Skipped
+ * unless both base URLs are given, e.g.
+ *
+ * <pre>
+ * java -jar target/customer-service-section17-0.0.1-SNAPSHOT.jar --server.port=8080 \
+ *     --client.rate-limit.enabled=false --client.cache.maximum-size=0 --client.page-cache.maximum-size=0
+ * CLIENT_VIRTUAL_THREADS=true java -jar target/customer-service-section17-0.0.1-SNAPSHOT.jar --server.port=8081 \
+ *     --client.rate-limit.enabled=false --client.cache.maximum-size=0 --client.page-cache.maximum-size=0
+ * mvn test -Dtest=ExecutionModeLoadBenchmark \
+ *     -Dbenchmark.platformUrl=http://localhost:8080 \
+ *     -Dbenchmark.virtualUrl=http://localhost:8081 \
+ *     -Dbenchmark.concurrency=2000 -Dbenchmark.seconds=60 -Dbenchmark.seedClients=10000
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.platformUrl", matches = ".+")
+@EnabledIfSystemProperty(named = "benchmark.virtualUrl", matches = ".+")
+class ExecutionModeLoadBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmupSeconds", 10);
+    private static final int SEED_CLIENTS = Integer.getInteger("benchmark.seedClients", 1000);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final AtomicLong SEQUENCE = new AtomicLong(ThreadLocalRandom.current().nextLong(100_000_000L) * 10);
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws IOException, InterruptedException {
+        String platform = run("platform-threads", System.getProperty("benchmark.platformUrl"));
+        String virtual = run("virtual-threads", System.getProperty("benchmark.virtualUrl"));
+        System.out.println(platform);
+        System.out.println(virtual);
+    }
+
+    private static String run(String label, String baseUrl) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long[] clientIds = seed(client, baseUrl);
+        drive(client, baseUrl, clientIds, WARMUP_SECONDS, new LatencyRecorder());
+        LatencyRecorder recorder = new LatencyRecorder();
+        long elapsed = drive(client, baseUrl, clientIds, SECONDS, recorder);
+        return recorder.report(label, elapsed);
+    }
+
+    /**
+     * Creates {@link #SEED_CLIENTS} clients and returns their ids.
+     */
+    private static long[] seed(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        long[] clientIds = new long[SEED_CLIENTS];
+        int seeded = 0;
+        for (int i = 0; i < SEED_CLIENTS; i++) {
+            long n = SEQUENCE.incrementAndGet();
+            String body = String.format("{\"clientName\":\"Load %d\",\"clientAge\":30,"
+                    + "\"clientEmailAddress\":\"load%d@bench.test\",\"clientMobileNumber\":\"%010d\"}", n, n, n);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/client/create"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                clientIds[seeded++] = OBJECT_MAPPER.readTree(response.body()).path("data").path("clientId").asLong();
+            }
+        }
+        if (seeded == 0) {
+            throw new IllegalStateException("No client could be created at " + baseUrl);
+        }
+        return Arrays.copyOf(clientIds, seeded);
+    }
+
+    /**
+     * Closed-loop load: {@link #CONCURRENCY} callers each issue a request as soon as the
+     * previous one finishes, mixing single-id reads of seeded clients with page reads.
+     * Only successful responses are timed; anything else counts as an error.
+     */
+    private static long drive(HttpClient client, String baseUrl, long[] clientIds, int seconds,
+                              LatencyRecorder recorder) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                callers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        String path = random.nextInt(10) == 0
+                                ? "/api/v1/client/getAllClients?size=20"
+                                : "/api/v1/client/getById/" + clientIds[random.nextInt(clientIds.length)];
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() / 100 == 2) {
+                                recorder.record(System.nanoTime() - sent);
+                            } else {
+                                recorder.recordError();
+                            }
+                        } catch (Exception e) {
+                            recorder.recordError();
+                        }
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,78 @@
+package com.customer.service.section17.benchmark;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram for the load benchmarks, bucketed like HdrHistogram: each power of
+ * two is split into {@value #SUB_BUCKETS} linear buckets, so every sample of a run is
+ * counted in fixed memory and percentiles are within 1% of the recorded values.
+ */
+class LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucket(value));
+        count.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    String report(String name, long elapsedNanos) {
+        long[] counts = new long[buckets.length()];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return String.format("%-28s requests=%d errors=%d throughput=%.0f/s p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                name, count.get(), errors.get(), count.get() / seconds,
+                percentile(counts, total, 0.50), percentile(counts, total, 0.95), percentile(counts, total, 0.99),
+                max.get() / 1_000_000.0);
+    }
+
+    private double percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(quantile * total), 1);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max.get()) / 1_000_000.0;
+            }
+        }
+        return max.get() / 1_000_000.0;
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
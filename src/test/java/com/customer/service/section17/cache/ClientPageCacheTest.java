@@ -0,0 +1,67 @@
+package com.customer.service.section17.cache;
+
+import com.customer.service.section17.cache.ClientPageCache.CachedPage;
+import com.customer.service.section17.config.PageCacheProperties;
+import com.customer.service.section17.response.APIClientResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientPageCacheTest {
+
+    private final ClientPageCache cache = new ClientPageCache(
+            new PageCacheProperties(DataSize.ofMegabytes(1), Duration.ofMinutes(1), DataSize.ofBytes(64), true, 1000),
+            new ObjectMapper());
+
+    @Test
+    void servesRepeatedReadsFromBytesUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedPage first = cache.get("getAllClients", 1, () -> page(loads, "a".repeat(200)));
+        CachedPage second = cache.get("getAllClients", 1, () -> page(loads, "a".repeat(200)));
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+
+        cache.invalidateAll();
+        cache.get("getAllClients", 1, () -> page(loads, "a".repeat(200)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void compressesOnlyAboveThreshold() throws IOException {
+        CachedPage small = cache.get("search", "small", () -> page(new AtomicInteger(), "a"));
+        CachedPage large = cache.get("search", "large", () -> page(new AtomicInteger(), "a".repeat(200)));
+        assertNull(small.gzip());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertArrayEquals(large.json(), in.readAllBytes());
+        }
+        assertNotEquals(large.eTag(), large.gzipETag());
+    }
+
+    @Test
+    void doesNotKeepErrorResponses() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("search", "bad", () -> {
+            loads.incrementAndGet();
+            return ResponseEntity.badRequest().body(APIClientResponse.builder().errorCode(400).build());
+        });
+        cache.get("search", "bad", () -> {
+            loads.incrementAndGet();
+            return ResponseEntity.badRequest().body(APIClientResponse.builder().errorCode(400).build());
+        });
+        assertEquals(2, loads.get());
+    }
+
+    private static ResponseEntity<APIClientResponse> page(AtomicInteger loads, String data) {
+        loads.incrementAndGet();
+        return ResponseEntity.ok(APIClientResponse.builder().errorCode(111).data(data).build());
+    }
+}
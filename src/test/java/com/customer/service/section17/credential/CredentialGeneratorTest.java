@@ -0,0 +1,43 @@
+package com.customer.service.section17.credential;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.customer.service.section17.constant.CustomerConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CredentialGeneratorTest {
+
+    private final CredentialGenerator generator = new CredentialGenerator(2);
+
+    @Test
+    void passwordUsesConfiguredLengthAndCharacters() {
+        for (int i = 0; i < 1000; i++) {
+            String password = generator.password();
+            assertEquals(PASS_LENGTH, password.length());
+            password.chars().forEach(c -> assertTrue(PASS_CHARACTERS.indexOf(c) >= 0, password));
+        }
+    }
+
+    @Test
+    void otpUsesConfiguredLengthAndCharacters() {
+        Set<Character> seen = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String otp = generator.otp();
+            assertEquals(OTP_LENGTH, otp.length());
+            otp.chars().forEach(c -> {
+                assertTrue(OTP_CHARACTERS.indexOf(c) >= 0, otp);
+                seen.add((char) c);
+            });
+        }
+        assertEquals(OTP_CHARACTERS.length(), seen.size());
+    }
+
+    @Test
+    void sha256HexMatchesKnownDigest() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                generator.sha256Hex("abc"));
+    }
+}
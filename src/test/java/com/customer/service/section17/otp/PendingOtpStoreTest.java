@@ -0,0 +1,91 @@
+package com.customer.service.section17.otp;
+
+import com.customer.service.section17.config.OtpProperties;
+import com.customer.service.section17.enums.OtpCheck;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PendingOtpStoreTest {
+
+    private static final long CLIENT_ID = 7;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final List<String> sent = new ArrayList<>();
+    private final PendingOtpStore store = new PendingOtpStore(
+            new OtpProperties(Duration.ofMinutes(5), 3, Duration.ofSeconds(30), 100, 500),
+            (clientId, otp) -> sent.add(clientId + ":" + otp),
+            now::get);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void verifiesIssuedOtpOnce() {
+        store.issue(CLIENT_ID, "123456");
+
+        assertEquals(List.of("7:123456"), sent);
+        assertEquals(OtpCheck.VERIFIED, store.verify(CLIENT_ID, "123456"));
+        assertEquals(OtpCheck.EXPIRED, store.verify(CLIENT_ID, "123456"));
+    }
+
+    @Test
+    void issuesAndSendsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        store.issue(CLIENT_ID, "123456");
+
+        assertTrue(sent.isEmpty());
+        assertEquals(OtpCheck.EXPIRED, store.verify(CLIENT_ID, "123456"));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of("7:123456"), sent);
+        assertEquals(OtpCheck.VERIFIED, store.verify(CLIENT_ID, "123456"));
+    }
+
+    @Test
+    void locksAfterMaxAttemptsEvenForTheRightOtp() {
+        store.issue(CLIENT_ID, "123456");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(OtpCheck.INVALID, store.verify(CLIENT_ID, "000000"));
+        }
+        assertEquals(OtpCheck.LOCKED, store.verify(CLIENT_ID, "123456"));
+    }
+
+    @Test
+    void expiresAtFixedInstantRegardlessOfFailedAttempts() {
+        store.issue(CLIENT_ID, "123456");
+
+        now.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertEquals(OtpCheck.INVALID, store.verify(CLIENT_ID, "000000"));
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertEquals(OtpCheck.EXPIRED, store.verify(CLIENT_ID, "123456"));
+    }
+
+    @Test
+    void reissuesOnlyAfterCooldownAndReplacesLockedOtp() {
+        store.issue(CLIENT_ID, "123456");
+        for (int i = 0; i < 3; i++) {
+            store.verify(CLIENT_ID, "000000");
+        }
+
+        assertNull(store.reissue(CLIENT_ID, () -> "654321"));
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertEquals("654321", store.reissue(CLIENT_ID, () -> "654321"));
+
+        assertEquals(OtpCheck.INVALID, store.verify(CLIENT_ID, "123456"));
+        assertEquals(OtpCheck.VERIFIED, store.verify(CLIENT_ID, "654321"));
+    }
+}
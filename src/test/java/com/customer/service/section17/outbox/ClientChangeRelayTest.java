@@ -0,0 +1,28 @@
+package com.customer.service.section17.outbox;
+
+import com.customer.service.section17.entity.ClientChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClientChangeRelayTest {
+
+    @Test
+    void ordersEachClientByVersionAndKeepsOtherClientsInPlace() {
+        // client 1 committed version 5 on an instance whose sequence block was higher
+        List<ClientChangeEvent> events = List.of(
+                event(600, 1, 6), event(700, 2, 1), event(1000, 1, 5), event(1100, 2, 2));
+
+        List<Long> published = ClientChangeRelay.inClientVersionOrder(events).stream()
+                .map(ClientChangeEvent::getSequence)
+                .toList();
+
+        assertEquals(List.of(1000L, 700L, 600L, 1100L), published);
+    }
+
+    private static ClientChangeEvent event(long sequence, long clientId, long version) {
+        return ClientChangeEvent.builder().sequence(sequence).clientId(clientId).clientVersion(version).build();
+    }
+}
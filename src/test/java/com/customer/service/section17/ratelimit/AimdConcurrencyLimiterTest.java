@@ -0,0 +1,47 @@
+package com.customer.service.section17.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdConcurrencyLimiterTest {
+
+    @Test
+    void concurrencyLimitShrinksOnSlowResponsesAndGrowsBack() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 2, 20, 100);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+        limiter.release(1_000);
+        assertEquals(9, limiter.getLimit());
+        for (int i = 0; i < 9; i++) {
+            limiter.release(1_000);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(1_000);
+        }
+        assertEquals(2, limiter.getLimit());
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(10);
+            limiter.release(10);
+        }
+        assertTrue(limiter.getLimit() > 2);
+    }
+
+    @Test
+    void unsampledReleaseFreesPermitWithoutMovingLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 2, 20, 100);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 10; i++) {
+            limiter.release();
+        }
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,42 @@
+package com.customer.service.section17.ratelimit;
+
+import com.customer.service.section17.config.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final RateLimitProperties.Limits EVERY_CALL_SLOW =
+            new RateLimitProperties.Limits(1000, 1000, 10, 2, 20, Duration.ZERO);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(new RateLimitProperties(true, EVERY_CALL_SLOW,
+            EVERY_CALL_SLOW, "X-Client-Key", 0, 20, 100, List.of("/api/v1/client/import"),
+            List.of("/api/v1/client/createBatch")), new ObjectMapper(), registry);
+
+    @Test
+    void batchCallsDoNotShrinkTheLimit() throws Exception {
+        call("POST", "/api/v1/client/createBatch");
+        assertEquals(10, writeLimit());
+
+        call("POST", "/api/v1/client/create");
+        assertEquals(9, writeLimit());
+    }
+
+    private void call(String method, String uri) throws Exception {
+        filter.doFilter(new MockHttpServletRequest(method, uri), new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private double writeLimit() {
+        return registry.get("client.ratelimit.concurrency.limit").tag("lane", "write").gauge().value();
+    }
+}
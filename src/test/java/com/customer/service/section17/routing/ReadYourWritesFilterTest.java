@@ -0,0 +1,74 @@
+package com.customer.service.section17.routing;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void writeIsPinnedAndHandsOutItsTimestamp() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(pinned(new MockHttpServletRequest("PUT", "/api/v1/client/updateById/1"), response));
+        assertEquals(Long.toString(NOW.toEpochMilli()), response.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER));
+        assertNotNull(response.getCookie(ReadYourWritesFilter.LAST_WRITE_COOKIE));
+    }
+
+    @Test
+    void readIsPinnedOnlyWhileLastWriteIsRecent() throws Exception {
+        assertFalse(pinned(read(null), new MockHttpServletResponse()));
+        assertTrue(pinned(read(NOW.minusSeconds(2)), new MockHttpServletResponse()));
+        assertFalse(pinned(read(NOW.minusSeconds(6)), new MockHttpServletResponse()));
+
+        MockHttpServletRequest withCookie = new MockHttpServletRequest("GET", "/api/v1/client/getById/1");
+        withCookie.setCookies(new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE,
+                Long.toString(NOW.minusSeconds(1).toEpochMilli())));
+        assertTrue(pinned(withCookie, new MockHttpServletResponse()));
+    }
+
+    @Test
+    void pinFollowsTasksToOtherThreads() throws Exception {
+        AtomicBoolean seen = new AtomicBoolean();
+        PrimaryRouting.onPrimary(() -> {
+            Thread thread = new Thread(PrimaryRouting.propagate(() -> seen.set(PrimaryRouting.isPinned())));
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        });
+        assertTrue(seen.get());
+        assertFalse(PrimaryRouting.isPinned());
+    }
+
+    private static MockHttpServletRequest read(Instant lastWrite) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/client/getById/1");
+        if (lastWrite != null) {
+            request.addHeader(ReadYourWritesFilter.LAST_WRITE_HEADER, Long.toString(lastWrite.toEpochMilli()));
+        }
+        return request;
+    }
+
+    private boolean pinned(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, response, (req, res) -> pinned.set(PrimaryRouting.isPinned()));
+        assertFalse(PrimaryRouting.isPinned());
+        return pinned.get();
+    }
+}
@@ -0,0 +1,100 @@
+package com.customer.service.section17.routing;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and a replica; each knows its own name.
+ */
+class ReplicaRoutingTest {
+
+    private final DataSource primary = database("primary");
+    private final AtomicBoolean replicaDown = new AtomicBoolean();
+    private final DataSource replica = new DelegatingDataSource(database("replica")) {
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (replicaDown.get()) {
+                throw new SQLException("replica unreachable");
+            }
+            return super.getConnection();
+        }
+    };
+    private final ReplicaPoolDataSource replicas = new ReplicaPoolDataSource(primary, List.of(replica));
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(routing());
+    private final TransactionTemplate readWrite = new TransactionTemplate(
+            new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+    private final TransactionTemplate readOnly = new TransactionTemplate(
+            new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+
+    {
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearPin() {
+        PrimaryRouting.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    void readWriteTransactionsGoToPrimary() {
+        assertEquals("primary", readWrite.execute(status -> node()));
+    }
+
+    @Test
+    void pinnedReadsGoToPrimary() {
+        PrimaryRouting.pin();
+        assertEquals("primary", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    void onPrimaryPinsOnlyForItsWork() {
+        assertEquals("primary", PrimaryRouting.onPrimary(() -> readOnly.execute(status -> node())));
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        replicaDown.set(true);
+        replicas.checkHealth();
+        assertEquals(0, replicas.healthyReplicas());
+        assertEquals("primary", readOnly.execute(status -> node()));
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private DataSource routing() {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replicas);
+        return routing;
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(16))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,213 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.cache.ClientPageCache;
+import com.customer.service.section17.config.ImportProperties;
+import com.customer.service.section17.config.OtpPoolProperties;
+import com.customer.service.section17.config.PageCacheProperties;
+import com.customer.service.section17.credential.OtpPool;
+import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.enums.ImportFormat;
+import com.customer.service.section17.repository.ClientChangeEventRepository;
+import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.response.ClientImportReject;
+import com.customer.service.section17.response.ClientImportReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.customer.service.section17.constant.CustomerConstant.CUSTOMER_ALREADY_EXISTS;
+import static com.customer.service.section17.constant.CustomerConstant.MALFORMED_RECORD;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientImportServiceImplTest {
+
+    private static final String HEADER = "clientName,clientAge,clientMobileNumber,clientEmailAddress";
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @BeforeEach
+    void clearClients() {
+        changeEventRepository.deleteAll();
+        clientRepository.deleteAll();
+    }
+
+    @Test
+    void importsValidRowsAndReportsRejectsByLine() throws Exception {
+        ClientImportReport report = service(clientRepository, validator).runImport(csv(
+                "Alice,30,9876543210,alice@x.com",
+                "",
+                "Bob,abc,9876543211,bob@x.com",
+                "Carol,30,123,carol@x.com",
+                "Dave,40,9876543213,dave@x.com"), ImportFormat.CSV);
+
+        assertNull(report.getFailure());
+        assertEquals(4, report.getTotalRows());
+        assertEquals(2, report.getImportedRows());
+        assertEquals(2, report.getRejectedRows());
+        assertEquals(List.of(4L, 5L), lines(report));
+        assertTrue(report.getRejects().getFirst().getReasons().getFirst().startsWith(MALFORMED_RECORD));
+        assertEquals(2, clientRepository.count());
+        assertEquals(2, changeEventRepository.count());
+    }
+
+    @Test
+    void rejectsNullNdjsonRecordsAsMalformed() throws Exception {
+        ClientImportReport report = service(clientRepository, validator).runImport(ndjson(
+                "null",
+                "{\"clientName\":\"Alice\",\"clientAge\":30,\"clientMobileNumber\":\"9876543210\","
+                        + "\"clientEmailAddress\":\"alice@x.com\"}"), ImportFormat.NDJSON);
+
+        assertNull(report.getFailure());
+        assertEquals(1, report.getImportedRows());
+        assertEquals(List.of(1L), lines(report));
+        assertTrue(report.getRejects().getFirst().getReasons().getFirst().startsWith(MALFORMED_RECORD));
+    }
+
+    @Test
+    void rejectsDuplicatesWithinTheFileAndAgainstTheDatabase() throws Exception {
+        clientRepository.save(ClientModel.builder()
+                .clientName("Existing")
+                .clientAge(30)
+                .clientEmailAddress("existing@x.com")
+                .clientMobileNumber("9000000000")
+                .status(CustomerStatus.ACTIVE)
+                .build());
+
+        ClientImportReport report = service(clientRepository, validator).runImport(csv(
+                "Alice,30,9876543210,alice@x.com",
+                "Alice again,30,9876543219,alice@x.com",
+                "Same mobile,30,9876543210,other@x.com",
+                "Existing email,30,9876543212,existing@x.com",
+                "Existing mobile,30,9000000000,new@x.com"), ImportFormat.CSV);
+
+        assertNull(report.getFailure());
+        assertEquals(1, report.getImportedRows());
+        assertEquals(List.of(3L, 4L, 5L, 6L), lines(report));
+        report.getRejects().forEach(reject -> assertEquals(List.of(CUSTOMER_ALREADY_EXISTS), reject.getReasons()));
+        assertEquals(2, clientRepository.count());
+    }
+
+    @Test
+    void rejectsRowsThatConflictAtInsertEvenWhenTheCheckMissedThem() throws Exception {
+        clientRepository.save(ClientModel.builder()
+                .clientName("Existing")
+                .clientAge(30)
+                .clientEmailAddress("existing@x.com")
+                .clientMobileNumber("9000000000")
+                .status(CustomerStatus.ACTIVE)
+                .build());
+
+        ClientImportReport report = service(withoutDuplicateCheck(clientRepository), validator).runImport(csv(
+                "Alice,30,9876543210,alice@x.com",
+                "Existing email,30,9876543212,existing@x.com",
+                "Bob,30,9876543211,bob@x.com"), ImportFormat.CSV);
+
+        assertNull(report.getFailure());
+        assertEquals(2, report.getImportedRows());
+        assertEquals(List.of(3L), lines(report));
+        assertEquals(List.of(CUSTOMER_ALREADY_EXISTS), report.getRejects().getFirst().getReasons());
+        assertEquals(3, clientRepository.count());
+    }
+
+    @Test
+    void abortsInsteadOfHangingWhenEveryWorkerFails() {
+        Validator failing = (Validator) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Validator.class}, (proxy, method, args) -> {
+                    throw new IllegalStateException("validator unavailable");
+                });
+        String[] rows = IntStream.range(0, 100)
+                .mapToObj(i -> String.format("Client %d,30,98765%05d,client%d@x.com", i, i, i))
+                .toArray(String[]::new);
+
+        ClientImportReport report = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> service(clientRepository, failing, 2).runImport(csv(rows), ImportFormat.CSV));
+
+        assertEquals("validator unavailable", report.getFailure());
+        assertEquals(0, report.getImportedRows());
+        assertEquals(0, clientRepository.count());
+    }
+
+    /**
+     * A single worker keeps rows in file order, so which of two duplicates wins is fixed.
+     */
+    private ClientImportServiceImpl service(ClientRepository repository, Validator validator) {
+        return service(repository, validator, 1);
+    }
+
+    private ClientImportServiceImpl service(ClientRepository repository, Validator validator, int workers) {
+        ClientPageCache pageCache = new ClientPageCache(
+                new PageCacheProperties(DataSize.ofMegabytes(1), Duration.ofMinutes(1), DataSize.ofKilobytes(2), true, 1000),
+                objectMapper);
+        return new ClientImportServiceImpl(repository,
+                new ClientChangeServiceImpl(changeEventRepository, clientRepository, objectMapper, pageCache),
+                new OtpPool(new OtpPoolProperties(10, 5)), entityManager, transactionTemplate, objectMapper, validator,
+                new ImportProperties(null, workers, 4, 2, 100, 100_000));
+    }
+
+    /**
+     * Reports no existing keys, as if a concurrent create took them right after the check.
+     */
+    private static ClientRepository withoutDuplicateCheck(ClientRepository repository) {
+        return (ClientRepository) Proxy.newProxyInstance(ClientRepository.class.getClassLoader(),
+                new Class<?>[]{ClientRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findExistingEmailAddresses")
+                            || method.getName().equals("findExistingMobileNumbers")) {
+                        return List.of();
+                    }
+                    try {
+                        return method.invoke(repository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static List<Long> lines(ClientImportReport report) {
+        return report.getRejects().stream().map(ClientImportReject::getLine).toList();
+    }
+
+    private static ByteArrayInputStream csv(String... rows) {
+        return input(HEADER + "\n" + String.join("\n", rows));
+    }
+
+    private static ByteArrayInputStream ndjson(String... rows) {
+        return input(String.join("\n", rows));
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
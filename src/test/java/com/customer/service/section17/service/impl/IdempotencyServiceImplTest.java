@@ -0,0 +1,176 @@
+package com.customer.service.section17.service.impl;
+
+import com.customer.service.section17.config.IdempotencyProperties;
+import com.customer.service.section17.entity.IdempotencyRecord;
+import com.customer.service.section17.repository.IdempotencyRecordRepository;
+import com.customer.service.section17.response.APIClientResponse;
+import com.customer.service.section17.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Each {@link IdempotencyServiceImpl} built here stands for one instance: its own
+ * in-memory tier over the shared {@code idempotency_records} table.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceImplTest {
+
+    private static final String SCOPE = "create";
+    private static final Map<String, String> BODY = Map.of("clientName", "A");
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void clearRecords() {
+        recordRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentDuplicatesRunTheActionOnce() throws Exception {
+        IdempotencyServiceImpl service = instance(false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            Future<ResponseEntity<APIClientResponse>> original = callers.submit(() ->
+                    service.execute("k1", SCOPE, BODY, () -> {
+                        started.countDown();
+                        await(release);
+                        return created();
+                    }));
+            started.await();
+            Future<ResponseEntity<APIClientResponse>> duplicate = callers.submit(() ->
+                    service.execute("k1", SCOPE, BODY, this::created));
+            release.countDown();
+
+            assertEquals(HttpStatus.OK, original.get().getStatusCode());
+            assertEquals(original.get().getBody(), duplicate.get().getBody());
+            assertEquals("true", duplicate.get().getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void reusingKeyWithAnotherBodyIsRejected() {
+        IdempotencyServiceImpl service = instance(false);
+        service.execute("k1", SCOPE, BODY, this::created);
+
+        ResponseEntity<APIClientResponse> reused = service.execute("k1", SCOPE, Map.of("clientName", "B"), this::created);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatusCode());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void largeResponseIsReplayedByAnotherInstance() {
+        String name = "x".repeat(5000);
+        ResponseEntity<APIClientResponse> first = instance(true).execute("k1", SCOPE, BODY,
+                () -> ResponseEntity.ok(APIClientResponse.builder().errorCode(111).data(name).build()));
+
+        ResponseEntity<APIClientResponse> replay = instance(true).execute("k1", SCOPE, BODY, this::created);
+
+        assertEquals(first.getBody(), replay.getBody());
+        assertEquals("true", replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void openClaimOfAnotherInstanceIsNotRememberedOnceItCompletes() {
+        IdempotencyServiceImpl service = instance(true);
+        IdempotencyServiceImpl other = instance(true);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread original = Thread.ofVirtual().start(() -> other.execute("k1", SCOPE, BODY, () -> {
+            await(release);
+            return created();
+        }));
+        waitForClaim(SCOPE + ":k1");
+
+        assertEquals(HttpStatus.CONFLICT, service.execute("k1", SCOPE, BODY, this::created).getStatusCode());
+        release.countDown();
+        join(original);
+
+        ResponseEntity<APIClientResponse> retry = service.execute("k1", SCOPE, BODY, this::created);
+        assertEquals(HttpStatus.OK, retry.getStatusCode());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void abandonedClaimIsTakenOver() {
+        LocalDateTime crashed = LocalDateTime.now().minusMinutes(10);
+        recordRepository.save(IdempotencyRecord.builder()
+                .idempotencyKey(SCOPE + ":k1")
+                .fingerprint("left by a crashed instance")
+                .createdDate(crashed)
+                .expiresAt(crashed.plusHours(24))
+                .build());
+
+        ResponseEntity<APIClientResponse> response = instance(true).execute("k1", SCOPE, BODY, this::created);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, executions.get());
+        assertEquals(200, recordRepository.findById(SCOPE + ":k1").orElseThrow().getStatusCode());
+    }
+
+    private IdempotencyServiceImpl instance(boolean dbEnabled) {
+        return new IdempotencyServiceImpl(recordRepository, transactionTemplate, new ObjectMapper(),
+                new IdempotencyProperties(Duration.ofHours(24), 1000, Duration.ofSeconds(5), Duration.ofMinutes(5),
+                        dbEnabled));
+    }
+
+    private ResponseEntity<APIClientResponse> created() {
+        executions.incrementAndGet();
+        return ResponseEntity.ok(APIClientResponse.builder().errorCode(111).data(BODY).build());
+    }
+
+    private void waitForClaim(String key) {
+        Supplier<Boolean> claimed = () -> recordRepository.existsById(key);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!claimed.get()) {
+            assertTrue(System.nanoTime() < deadline, "claim was never written");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
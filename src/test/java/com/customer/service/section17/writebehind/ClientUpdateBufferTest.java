@@ -0,0 +1,208 @@
+package com.customer.service.section17.writebehind;
+
+import com.customer.service.section17.cache.ClientCache;
+import com.customer.service.section17.cache.ClientPageCache;
+import com.customer.service.section17.config.ClientCacheProperties;
+import com.customer.service.section17.config.PageCacheProperties;
+import com.customer.service.section17.config.WriteBehindProperties;
+import com.customer.service.section17.entity.ClientModel;
+import com.customer.service.section17.enums.CustomerStatus;
+import com.customer.service.section17.mapper.ClientMapper;
+import com.customer.service.section17.repository.ClientChangeEventRepository;
+import com.customer.service.section17.repository.ClientRepository;
+import com.customer.service.section17.request.ClientRequest;
+import com.customer.service.section17.response.ClientResponse;
+import com.customer.service.section17.service.impl.ClientChangeServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientUpdateBufferTest {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ClientUpdateBuffer buffer;
+
+    @BeforeEach
+    void createBuffer() {
+        changeEventRepository.deleteAll();
+        clientRepository.deleteAll();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ClientPageCache pageCache = new ClientPageCache(
+                new PageCacheProperties(DataSize.ofMegabytes(1), Duration.ofMinutes(1), DataSize.ofKilobytes(2), true, 1000), objectMapper);
+        buffer = new ClientUpdateBuffer(new WriteBehindProperties(true, 4, 200, 500, 2), jdbcTemplate, clientRepository,
+                new ClientCache(new ClientCacheProperties(100, Duration.ofMinutes(1))),
+                new ClientChangeServiceImpl(changeEventRepository, clientRepository, objectMapper, pageCache),
+                transactionTemplate);
+        buffer.bindTo(registry);
+    }
+
+    @Test
+    void keepsOnlyLatestUpdatePerClient() {
+        ClientResponse client = client("a");
+        buffer.buffer(client, request(client, "first"));
+        ClientResponse accepted = buffer.buffer(client, request(client, "second")).orElseThrow();
+
+        assertEquals("second", accepted.getClientName());
+        assertNull(accepted.getVersion());
+        assertEquals("second", buffer.overlay(client).getClientName());
+        assertEquals(1, registry.get("client.writebehind.pending").gauge().value());
+        assertEquals(1, registry.get("client.writebehind.coalesced").counter().count());
+    }
+
+    @Test
+    void leavesOtherClientsUntouched() {
+        ClientResponse changed = client("a");
+        ClientResponse other = client("b");
+        buffer.buffer(changed, request(changed, "changed"));
+
+        assertTrue(buffer.isPending(changed.getClientId()));
+        assertFalse(buffer.isPending(other.getClientId()));
+        assertEquals("original", buffer.overlay(other).getClientName());
+    }
+
+    @Test
+    void rejectsNewClientsWhenFull() {
+        ClientResponse first = client("a");
+        ClientResponse second = client("b");
+        ClientResponse third = client("c");
+        buffer.buffer(first, request(first, "a"));
+        buffer.buffer(second, request(second, "b"));
+
+        assertTrue(buffer.buffer(third, request(third, "c")).isEmpty());
+        assertTrue(buffer.buffer(first, request(first, "d")).isPresent());
+    }
+
+    @Test
+    void flushWritesLatestUpdateOnceAndRecordsIt() {
+        ClientResponse client = client("a");
+        buffer.buffer(client, request(client, "first"));
+        buffer.buffer(client, request(client, "second"));
+
+        buffer.flush();
+
+        ClientModel stored = clientRepository.findById(client.getClientId()).orElseThrow();
+        assertEquals("second", stored.getClientName());
+        assertEquals(client.getVersion() + 1, stored.getVersion());
+        assertFalse(buffer.isPending(client.getClientId()));
+        assertEquals(0, registry.get("client.writebehind.pending").gauge().value());
+        assertEquals(1, changeEventRepository.count());
+    }
+
+    @Test
+    void flushPendingWritesInCallersTransactionAndHandsBackOnRollback() {
+        ClientResponse client = client("a");
+        buffer.buffer(client, request(client, "buffered"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            buffer.flushPending(List.of(client.getClientId()));
+            status.setRollbackOnly();
+        });
+        assertTrue(buffer.isPending(client.getClientId()));
+        assertEquals("original", clientRepository.findById(client.getClientId()).orElseThrow().getClientName());
+
+        transactionTemplate.executeWithoutResult(status -> buffer.flushPending(List.of(client.getClientId())));
+        assertFalse(buffer.isPending(client.getClientId()));
+        assertEquals("buffered", clientRepository.findById(client.getClientId()).orElseThrow().getClientName());
+    }
+
+    @Test
+    void updateArrivingWhileClaimedIsWrittenAfterTheClaimantCommits() throws Exception {
+        ClientResponse client = client("a");
+        buffer.buffer(client, request(client, "older"));
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService caller = Executors.newSingleThreadExecutor()) {
+            Future<?> claimant = caller.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                buffer.flushPending(List.of(client.getClientId()));
+                claimed.countDown();
+                await(release);
+            }));
+            assertTrue(claimed.await(5, TimeUnit.SECONDS));
+            buffer.buffer(client, request(client, "newer"));
+
+            buffer.flush();
+            assertEquals("newer", buffer.overlay(client).getClientName());
+
+            release.countDown();
+            claimant.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals("older", clientRepository.findById(client.getClientId()).orElseThrow().getClientName());
+        assertTrue(buffer.isPending(client.getClientId()));
+
+        buffer.flush();
+        assertEquals("newer", clientRepository.findById(client.getClientId()).orElseThrow().getClientName());
+        assertFalse(buffer.isPending(client.getClientId()));
+    }
+
+    @Test
+    void shutdownWritesPendingUpdatesAndStopsBuffering() {
+        ClientResponse client = client("a");
+        buffer.buffer(client, request(client, "buffered"));
+
+        buffer.shutdown();
+
+        assertEquals("buffered", clientRepository.findById(client.getClientId()).orElseThrow().getClientName());
+        assertTrue(buffer.buffer(client, request(client, "late")).isEmpty());
+        assertEquals(0, registry.get("client.writebehind.pending").gauge().value());
+    }
+
+    private ClientResponse client(String suffix) {
+        ClientModel model = clientRepository.save(ClientModel.builder()
+                .clientName("original")
+                .clientAge(30)
+                .clientEmailAddress(suffix + "@x.com")
+                .clientMobileNumber("98765432" + (10 + suffix.charAt(0) % 90))
+                .status(CustomerStatus.ACTIVE)
+                .build());
+        return ClientMapper.modelToResponseMapper(model);
+    }
+
+    private static ClientRequest request(ClientResponse client, String name) {
+        return ClientRequest.builder()
+                .clientName(name)
+                .clientAge(client.getClientAge())
+                .clientEmailAddress(client.getClientEmailAddress())
+                .clientMobileNumber(client.getClientMobileNumber())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}